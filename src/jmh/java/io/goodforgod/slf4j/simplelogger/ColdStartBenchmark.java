@@ -0,0 +1,44 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Time to first log line in fresh JVM, each fork measures single cold invocation without warmup, so
+ * result includes configuration initialization, layout class loading and first event rendering
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+    @Param({ "TEXT", "JSON" })
+    private String format;
+
+    private PrintStream original;
+
+    @Setup
+    public void setup() {
+        System.setProperty(SimpleLoggerProperties.FORMAT, format);
+        original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(original);
+    }
+
+    @Benchmark
+    public void firstLine() {
+        new SimpleLoggerFactory().getLogger("io.goodforgod.benchmark.Service").info("First line");
+    }
+}
@@ -0,0 +1,56 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures time logging thread spends per event into null stream, with formatting done by caller or
+ * deferred to background thread
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeferredFormattingBenchmark {
+
+    @Param({ "false", "true" })
+    private String deferred;
+
+    private PrintStream original;
+    private SimpleLogger logger;
+
+    @Setup
+    public void setup() {
+        original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        System.setProperty(SimpleLoggerProperties.DEFERRED_FORMATTING, deferred);
+        SimpleLogger.init();
+        logger = new SimpleLogger("io.goodforgod.benchmark.Service");
+    }
+
+    @TearDown
+    public void tearDown() {
+        final DeferredEventQueue queue = SimpleLogger.CONFIG.getDeferredEventQueue();
+        if (queue != null) {
+            queue.close();
+        }
+        System.clearProperty(SimpleLoggerProperties.DEFERRED_FORMATTING);
+        System.setOut(original);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void log() {
+        logger.info("Message with {} and {} arguments", "first", 2L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void logContended() {
+        logger.info("Message with {} and {} arguments", "first", 2L);
+    }
+}
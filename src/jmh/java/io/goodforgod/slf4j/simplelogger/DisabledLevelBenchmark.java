@@ -0,0 +1,45 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Logging calls for levels disabled for all loggers, which are expected to cost nothing
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DisabledLevelBenchmark {
+
+    private SimpleLogger logger;
+    private final Object argument = "argument";
+
+    @Setup
+    public void setup() {
+        SimpleLogger.init();
+        logger = (SimpleLogger) new SimpleLoggerFactory().getLogger("io.goodforgod.benchmark.Service");
+    }
+
+    @Benchmark
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    @Benchmark
+    public void debugWithArgument() {
+        logger.debug("Message with {} argument", argument);
+    }
+
+    @Benchmark
+    public void traceWithPrimitive() {
+        logger.trace("Message with {} argument", 42L);
+    }
+
+    @Benchmark
+    public void debugFluent() {
+        logger.atDebug().addKeyValue("key", argument).log("Message");
+    }
+}
@@ -0,0 +1,51 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventEncoderBenchmark {
+
+    private final EventEncoder simpleEncoder = new EventEncoders.SimpleEventEncoder();
+    private final EventEncoder charsetEncoder = new EventEncoders.CharsetEventEncoder(StandardCharsets.UTF_8);
+    private final EventEncoder binaryEncoder = new BinaryEventEncoder();
+
+    private SimpleLoggingEvent event;
+    private SimpleLoggingEvent binaryEvent;
+
+    @Setup
+    public void setup() {
+        event = new SimpleLoggingEvent("io.goodforgod.benchmark.Service", org.slf4j.event.Level.INFO,
+                "Message", null, null);
+        event.append("2026-10-19T10:15:30.000 [INFO] io.goodforgod.benchmark.Service Message with first and 2 arguments\n");
+
+        // binary event is not rendered, it is encoded with its template and arguments
+        binaryEvent = new SimpleLoggingEvent("io.goodforgod.benchmark.Service", org.slf4j.event.Level.INFO,
+                "Message with {} and {} arguments", null, null);
+        binaryEvent.setArgument(0, "first");
+        binaryEvent.setArgument(1, 2L);
+        binaryEncoder.encode(binaryEvent);
+    }
+
+    @Benchmark
+    public byte[] encodeDefaultCharset() {
+        return simpleEncoder.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeUtf8() {
+        return charsetEncoder.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binaryEncoder.encode(binaryEvent);
+    }
+}
@@ -0,0 +1,43 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Writes event into null stream, so only encoding and locking is measured
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventWriterBenchmark {
+
+    private EventWriter writer;
+    private SimpleLoggingEvent event;
+
+    @Setup
+    public void setup() {
+        SimpleLogger.init();
+        final PrintStream stream = new PrintStream(OutputStream.nullOutputStream());
+        writer = new EventWriters.LockEventWriter(SimpleLogger.CONFIG, new OutputChoices.FileOutputChoice(stream));
+        event = new SimpleLoggingEvent("io.goodforgod.benchmark.Service", org.slf4j.event.Level.INFO,
+                "Message", null, null);
+        event.append("2026-10-19T10:15:30.000 [INFO] io.goodforgod.benchmark.Service Message with first and 2 arguments\n");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void write() {
+        writer.write(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void writeContended() {
+        writer.write(event);
+    }
+}
@@ -0,0 +1,47 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks whole layout pipeline of each output format, as configured by default
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LayoutBenchmark {
+
+    @Param({ "TEXT", "JSON", "LOGFMT" })
+    public String format;
+
+    private List<Layout> layouts;
+
+    @Setup
+    public void setup() {
+        System.setProperty(SimpleLoggerProperties.FORMAT, format);
+        SimpleLogger.init();
+        layouts = SimpleLogger.CONFIG.snapshot().getLayouts();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(SimpleLoggerProperties.FORMAT);
+        SimpleLogger.init();
+    }
+
+    @Benchmark
+    public SimpleLoggingEvent print() {
+        final SimpleLoggingEvent event = new SimpleLoggingEvent("io.goodforgod.benchmark.Service",
+                org.slf4j.event.Level.INFO, "Message with {} and {} arguments", null, null);
+        event.setArgument(0, "first");
+        event.setArgument(1, 2L);
+        for (Layout layout : layouts) {
+            layout.print(event);
+        }
+        return event;
+    }
+}
@@ -0,0 +1,46 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageFormatterBenchmark {
+
+    private final StringBuilder builder = new StringBuilder(256);
+    private final Object[] arguments = { "first", 2, 3L, 4.5, "fifth" };
+
+    @Benchmark
+    public StringBuilder formatNoArgs() {
+        builder.setLength(0);
+        MessageFormatter.formatArray(builder, "Message without arguments", null, 0, ObjectRenderers.TEXT);
+        return builder;
+    }
+
+    @Benchmark
+    public StringBuilder formatOneArg() {
+        builder.setLength(0);
+        MessageFormatter.format(builder, "Message with {} argument", "first", ObjectRenderers.TEXT);
+        return builder;
+    }
+
+    @Benchmark
+    public StringBuilder formatTwoArgs() {
+        builder.setLength(0);
+        MessageFormatter.format(builder, "Message with {} and {} arguments", "first", 2, ObjectRenderers.TEXT);
+        return builder;
+    }
+
+    @Benchmark
+    public StringBuilder formatArray() {
+        builder.setLength(0);
+        MessageFormatter.formatArray(builder, "Message with {}, {}, {}, {} and {} arguments", arguments,
+                arguments.length, ObjectRenderers.TEXT);
+        return builder;
+    }
+}
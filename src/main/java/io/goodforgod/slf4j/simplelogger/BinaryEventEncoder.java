@@ -0,0 +1,385 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Marker;
+
+/**
+ * Encodes event into length prefixed binary frames without rendering message, frame is:
+ * {@code [int length][byte type][payload]} where length covers type and payload.
+ * <p>
+ * Logger names, message templates, thread names, key names and stack frame parts are interned into
+ * dictionary of output, each string is written once with {@link #FRAME_STRING} frame right before first
+ * event that references it, events reference it by id afterwards. Encoder is stateful and must be used
+ * for single output under lock.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class BinaryEventEncoder implements EventEncoder {
+
+    static final byte[] MAGIC = { 'S', 'L', 'F', 'B' };
+    static final byte VERSION = 1;
+
+    /**
+     * Starts output and resets dictionary, payload is {@link #MAGIC} and {@link #VERSION}
+     */
+    static final byte FRAME_HEADER = 0;
+    /**
+     * Dictionary entry, payload is int id and string
+     */
+    static final byte FRAME_STRING = 1;
+    /**
+     * Logging event
+     */
+    static final byte FRAME_EVENT = 2;
+
+    static final int REF_NULL = -1;
+    static final int REF_INLINE = -2;
+
+    static final byte VALUE_NULL = 0;
+    static final byte VALUE_STRING = 1;
+    static final byte VALUE_LONG = 2;
+    static final byte VALUE_DOUBLE = 3;
+    /**
+     * Object rendered when event is encoded, as its class may not exist where it is decoded, payload is
+     * TEXT rendering and JSON rendering or null when it is same as TEXT
+     */
+    static final byte VALUE_RENDERED = 4;
+
+    /**
+     * Dictionary is limited, so messages built with concatenation do not grow it forever, strings over
+     * limit are written inline
+     */
+    private static final int DICTIONARY_SIZE_MAX = 65_536;
+    static final int THROWABLE_DEPTH_MAX = 16;
+    static final int MARKER_DEPTH_MAX = 8;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final StringBuilder rendered = new StringBuilder();
+    private byte[] buffer = new byte[1024];
+    private int position;
+    private int frameStart;
+    private boolean started;
+
+    @Override
+    public byte[] encode(SimpleLoggingEvent event) {
+        position = 0;
+        if (!started) {
+            started = true;
+            startFrame(FRAME_HEADER);
+            putBytes(MAGIC);
+            putByte(VERSION);
+            endFrame();
+        }
+
+        // strings are interned before event frame starts, so their frames precede event
+        intern(event.logger());
+        intern(event.message());
+        intern(event.threadName());
+        for (int i = 0; i < event.keyValueCount(); i++) {
+            intern(event.key(i));
+        }
+        internMarker(event.marker(), 0);
+        internThrowable(event.throwable(), new ArrayList<>(), 0);
+
+        startFrame(FRAME_EVENT);
+        putLong(event.created());
+        putByte((byte) event.level().ordinal());
+        putRef(event.logger());
+        putRef(event.message());
+        putRef(event.threadName());
+        putMarker(event.marker(), 0);
+
+        final int argumentCount = event.count();
+        putInt(argumentCount);
+        for (int i = 0; i < argumentCount; i++) {
+            switch (event.argumentType(i)) {
+                case SimpleLoggingEvent.ARGUMENT_LONG:
+                    putByte(VALUE_LONG);
+                    putLong(event.primitiveArgument(i));
+                    break;
+                case SimpleLoggingEvent.ARGUMENT_DOUBLE:
+                    putByte(VALUE_DOUBLE);
+                    putLong(event.primitiveArgument(i));
+                    break;
+                default:
+                    putValue(event.objectArgument(i));
+            }
+        }
+
+        putInt(event.keyValueCount());
+        for (int i = 0; i < event.keyValueCount(); i++) {
+            putRef(event.key(i));
+            putValue(event.value(i));
+        }
+
+        final SimpleMDCAdapter.Context context = event.context();
+        final int contextSize = (context == null)
+                ? 0
+                : context.size();
+        putInt(contextSize);
+        for (int i = 0; i < contextSize; i++) {
+            putString(context.key(i));
+            putString(context.value(i));
+        }
+
+        putThrowable(event.throwable(), new ArrayList<>(), 0);
+        endFrame();
+
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void intern(String value) {
+        if (value == null || dictionary.containsKey(value) || dictionary.size() >= DICTIONARY_SIZE_MAX) {
+            return;
+        }
+
+        final int id = dictionary.size();
+        dictionary.put(value, id);
+        startFrame(FRAME_STRING);
+        putInt(id);
+        putString(value);
+        endFrame();
+    }
+
+    private void internMarker(Marker marker, int depth) {
+        if (marker == null || depth >= MARKER_DEPTH_MAX) {
+            return;
+        }
+
+        intern(marker.getName());
+        final Iterator<Marker> references = marker.iterator();
+        while (references.hasNext()) {
+            internMarker(references.next(), depth + 1);
+        }
+    }
+
+    private void internThrowable(Throwable throwable, List<Throwable> visited, int depth) {
+        if (throwable == null || depth >= THROWABLE_DEPTH_MAX || isVisited(throwable, visited)) {
+            return;
+        }
+
+        visited.add(throwable);
+        intern(throwable.getClass().getName());
+        for (StackTraceElement trace : throwable.getStackTrace()) {
+            intern(getClassLoaderName(trace));
+            intern(trace.getModuleName());
+            intern(getModuleVersion(trace));
+            intern(trace.getClassName());
+            intern(trace.getMethodName());
+            intern(trace.getFileName());
+        }
+
+        internThrowable(throwable.getCause(), visited, depth + 1);
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            internThrowable(suppressed, visited, depth + 1);
+        }
+    }
+
+    private void putMarker(Marker marker, int depth) {
+        if (marker == null || depth >= MARKER_DEPTH_MAX) {
+            putByte((byte) 0);
+            return;
+        }
+
+        putByte((byte) 1);
+        putRef(marker.getName());
+        int references = 0;
+        for (Iterator<Marker> iterator = marker.iterator(); iterator.hasNext(); iterator.next()) {
+            references++;
+        }
+
+        putInt(references);
+        final Iterator<Marker> iterator = marker.iterator();
+        while (iterator.hasNext()) {
+            putMarker(iterator.next(), depth + 1);
+        }
+    }
+
+    /**
+     * Circular references and throwables deeper than {@link #THROWABLE_DEPTH_MAX} are not written
+     */
+    private void putThrowable(Throwable throwable, List<Throwable> visited, int depth) {
+        if (throwable == null || depth >= THROWABLE_DEPTH_MAX || isVisited(throwable, visited)) {
+            putByte((byte) 0);
+            return;
+        }
+
+        visited.add(throwable);
+        putByte((byte) 1);
+        putRef(throwable.getClass().getName());
+        putString(throwable.getMessage());
+
+        final StackTraceElement[] traces = throwable.getStackTrace();
+        putInt(traces.length);
+        for (StackTraceElement trace : traces) {
+            putRef(getClassLoaderName(trace));
+            putRef(trace.getModuleName());
+            putRef(getModuleVersion(trace));
+            putRef(trace.getClassName());
+            putRef(trace.getMethodName());
+            putRef(trace.getFileName());
+            putInt(trace.getLineNumber());
+        }
+
+        putThrowable(throwable.getCause(), visited, depth + 1);
+
+        final Throwable[] suppressed = throwable.getSuppressed();
+        putInt(suppressed.length);
+        for (Throwable suppressedThrowable : suppressed) {
+            putThrowable(suppressedThrowable, visited, depth + 1);
+        }
+    }
+
+    private static boolean isVisited(Throwable throwable, List<Throwable> visited) {
+        for (Throwable visitedThrowable : visited) {
+            if (visitedThrowable == throwable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@link StackTraceElement#toString()} omits built-in class loaders, so they are not written
+     */
+    private static String getClassLoaderName(StackTraceElement trace) {
+        final String classLoaderName = trace.getClassLoaderName();
+        return ("app".equals(classLoaderName) || "platform".equals(classLoaderName))
+                ? null
+                : classLoaderName;
+    }
+
+    /**
+     * {@link StackTraceElement#toString()} omits version of JDK modules, so it is not written
+     */
+    private static String getModuleVersion(StackTraceElement trace) {
+        final String moduleName = trace.getModuleName();
+        return (moduleName != null && (moduleName.startsWith("java.") || moduleName.startsWith("jdk.")))
+                ? null
+                : trace.getModuleVersion();
+    }
+
+    private void putValue(Object value) {
+        if (value == null) {
+            putByte(VALUE_NULL);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            putByte(VALUE_LONG);
+            putLong(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            putByte(VALUE_DOUBLE);
+            putLong(Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof String) {
+            putByte(VALUE_STRING);
+            putString((String) value);
+        } else {
+            rendered.setLength(0);
+            MessageFormatter.appendArgument(rendered, value, ObjectRenderers.TEXT);
+            final String text = rendered.toString();
+            rendered.setLength(0);
+            MessageFormatter.appendArgument(rendered, value, ObjectRenderers.JSON);
+            putByte(VALUE_RENDERED);
+            putString(text);
+            putString(text.contentEquals(rendered)
+                    ? null
+                    : rendered.toString());
+        }
+    }
+
+    private void putRef(String value) {
+        if (value == null) {
+            putInt(REF_NULL);
+            return;
+        }
+
+        final Integer id = dictionary.get(value);
+        if (id == null) {
+            putInt(REF_INLINE);
+            putString(value);
+        } else {
+            putInt(id);
+        }
+    }
+
+    private void startFrame(byte type) {
+        frameStart = position;
+        putInt(0);
+        putByte(type);
+    }
+
+    private void endFrame() {
+        final int length = position - frameStart - Integer.BYTES;
+        buffer[frameStart] = (byte) (length >>> 24);
+        buffer[frameStart + 1] = (byte) (length >>> 16);
+        buffer[frameStart + 2] = (byte) (length >>> 8);
+        buffer[frameStart + 3] = (byte) length;
+    }
+
+    private void ensure(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+
+    private void putByte(byte value) {
+        ensure(1);
+        buffer[position++] = value;
+    }
+
+    private void putBytes(byte[] value) {
+        ensure(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+    }
+
+    private void putInt(int value) {
+        ensure(Integer.BYTES);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void putLong(long value) {
+        putInt((int) (value >>> 32));
+        putInt((int) value);
+    }
+
+    /**
+     * String is written as int length of UTF-8 bytes and bytes, length is -1 for null
+     */
+    private void putString(String value) {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+
+        final int length = value.length();
+        ensure(Integer.BYTES + length);
+        final int lengthPosition = position;
+        position += Integer.BYTES;
+        for (int i = 0; i < length; i++) {
+            final char character = value.charAt(i);
+            if (character >= 0x80) {
+                // not ASCII string is encoded by JDK
+                position = lengthPosition;
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                putInt(bytes.length);
+                putBytes(bytes);
+                return;
+            }
+            buffer[position++] = (byte) character;
+        }
+
+        final int end = position;
+        position = lengthPosition;
+        putInt(length);
+        position = end;
+    }
+}
@@ -0,0 +1,339 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import io.goodforgod.slf4j.simplelogger.SimpleLoggerProperties.OutputFormat;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.Util;
+
+/**
+ * Decodes {@link OutputFormat#BINARY} output produced by {@link BinaryEventEncoder} back into TEXT,
+ * JSON or LOGFMT with same layouts logger uses, layouts are configured as usual with system properties or
+ * <code>simplelogger.properties</code>.
+ * <p>
+ * Run with: {@code java -cp simple-logger.jar io.goodforgod.slf4j.simplelogger.BinaryLogDecoder
+ * <binary-file or -> [TEXT, JSON or LOGFMT] [output-file]}
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class BinaryLogDecoder {
+
+    private static final int HEADER_LENGTH = 1 + BinaryEventEncoder.MAGIC.length + 1;
+
+    private final boolean json;
+    private final List<Layout> layouts;
+    private final EventEncoder eventEncoder;
+    private final List<String> dictionary = new ArrayList<>();
+
+    private BinaryLogDecoder(OutputFormat format) {
+        SimpleLogger.lazyInit();
+        this.json = OutputFormat.JSON.equals(format);
+        this.layouts = SimpleLogger.CONFIG.snapshot(format).getLayouts();
+        this.eventEncoder = SimpleLogger.CONFIG.getEventEncoder();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Usage: BinaryLogDecoder <binary-file or -> [TEXT, JSON or LOGFMT] [output-file]");
+            return;
+        }
+
+        final OutputFormat format = (args.length > 1)
+                ? OutputFormat.valueOf(args[1].toUpperCase())
+                : OutputFormat.TEXT;
+
+        try (InputStream input = ("-".equals(args[0]))
+                ? System.in
+                : new FileInputStream(args[0]);
+                OutputStream output = (args.length > 2)
+                        ? new FileOutputStream(args[2])
+                        : System.out) {
+            decode(input, output, format);
+        }
+    }
+
+    /**
+     * @param input  binary output to decode
+     * @param output to write decoded events to
+     * @param format to render events with, TEXT, JSON or LOGFMT
+     * @throws IOException when input is not binary output or can not be read
+     */
+    public static void decode(InputStream input, OutputStream output, OutputFormat format) throws IOException {
+        if (OutputFormat.BINARY.equals(format)) {
+            throw new IllegalArgumentException("Binary output can be decoded only into TEXT, JSON or LOGFMT format");
+        }
+
+        final BinaryLogDecoder decoder = new BinaryLogDecoder(format);
+        final DataInputStream frames = new DataInputStream(new BufferedInputStream(input));
+        final OutputStream bufferedOutput = new BufferedOutputStream(output);
+        boolean started = false;
+        byte[] frame = new byte[1024];
+        while (true) {
+            final int length;
+            try {
+                length = frames.readInt();
+            } catch (EOFException e) {
+                break;
+            }
+
+            if (length <= 0 || (!started && length != HEADER_LENGTH)) {
+                throw new IOException("Input is not binary log or it is corrupted, invalid frame length: " + length);
+            }
+
+            if (frame.length < length) {
+                frame = new byte[Math.max(length, frame.length * 2)];
+            }
+
+            try {
+                frames.readFully(frame, 0, length);
+            } catch (EOFException e) {
+                Util.report("Binary log ends with incomplete frame, it is skipped");
+                break;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.wrap(frame, 0, length);
+            final byte type = buffer.get();
+            if (type == BinaryEventEncoder.FRAME_HEADER) {
+                decoder.readHeader(buffer);
+                started = true;
+            } else if (!started) {
+                throw new IOException("Input is not binary log, header is missing");
+            } else if (type == BinaryEventEncoder.FRAME_STRING) {
+                decoder.readString(buffer);
+            } else if (type == BinaryEventEncoder.FRAME_EVENT) {
+                bufferedOutput.write(decoder.readEvent(buffer));
+            } else {
+                throw new IOException("Unknown binary log frame type: " + type);
+            }
+        }
+
+        bufferedOutput.flush();
+    }
+
+    /**
+     * Header starts output, output can be appended after restart, so dictionary starts from scratch
+     */
+    private void readHeader(ByteBuffer buffer) throws IOException {
+        final byte[] magic = new byte[BinaryEventEncoder.MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, BinaryEventEncoder.MAGIC)) {
+            throw new IOException("Input is not binary log, header is invalid");
+        }
+
+        final byte version = buffer.get();
+        if (version != BinaryEventEncoder.VERSION) {
+            throw new IOException("Unsupported binary log version: " + version);
+        }
+
+        dictionary.clear();
+    }
+
+    private void readString(ByteBuffer buffer) throws IOException {
+        final int id = buffer.getInt();
+        if (id != dictionary.size()) {
+            throw new IOException("Binary log dictionary is corrupted, expected id " + dictionary.size() + " but was " + id);
+        }
+
+        dictionary.add(getString(buffer));
+    }
+
+    private byte[] readEvent(ByteBuffer buffer) {
+        final long created = buffer.getLong();
+        final Level level = Level.values()[buffer.get()];
+        final String logger = getRef(buffer);
+        final String message = getRef(buffer);
+        final String threadName = getRef(buffer);
+        final Marker marker = getMarker(buffer);
+
+        final int argumentCount = buffer.getInt();
+        final Object[] arguments = new Object[argumentCount];
+        final byte[] argumentTypes = new byte[argumentCount];
+        for (int i = 0; i < argumentCount; i++) {
+            argumentTypes[i] = buffer.get();
+            arguments[i] = getValue(argumentTypes[i], buffer);
+        }
+
+        final int keyValueCount = buffer.getInt();
+        final String[] keys = new String[keyValueCount];
+        final Object[] values = new Object[keyValueCount];
+        for (int i = 0; i < keyValueCount; i++) {
+            keys[i] = getRef(buffer);
+            values[i] = getValue(buffer.get(), buffer);
+        }
+
+        final int contextSize = buffer.getInt();
+        SimpleMDCAdapter.Context context = null;
+        if (contextSize > 0) {
+            context = SimpleMDCAdapter.Context.EMPTY;
+            for (int i = 0; i < contextSize; i++) {
+                context = context.put(getString(buffer), getString(buffer));
+            }
+        }
+
+        final Throwable throwable = getThrowable(buffer);
+        final SimpleLoggingEvent event = new SimpleLoggingEvent(logger, level, message, marker, throwable, created, threadName);
+        if (argumentCount > 2) {
+            event.setArguments(arguments, argumentCount);
+        } else {
+            // primitive arguments are set into typed slots, so they are rendered like when logged
+            for (int i = 0; i < argumentCount; i++) {
+                if (argumentTypes[i] == BinaryEventEncoder.VALUE_LONG) {
+                    event.setArgument(i, (long) (Long) arguments[i]);
+                } else if (argumentTypes[i] == BinaryEventEncoder.VALUE_DOUBLE) {
+                    event.setArgument(i, (double) (Double) arguments[i]);
+                } else {
+                    event.setArgument(i, arguments[i]);
+                }
+            }
+        }
+
+        if (keyValueCount > 0) {
+            event.setKeyValues(keys, values, keyValueCount);
+        }
+        if (context != null) {
+            event.setContext(context);
+        }
+
+        for (Layout layout : layouts) {
+            layout.print(event);
+        }
+
+        return eventEncoder.encode(event);
+    }
+
+    private Marker getMarker(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+
+        final SimpleMarker marker = new SimpleMarker(getRef(buffer));
+        final int references = buffer.getInt();
+        for (int i = 0; i < references; i++) {
+            final Marker reference = getMarker(buffer);
+            if (reference != null) {
+                marker.add(reference);
+            }
+        }
+
+        return marker;
+    }
+
+    private Throwable getThrowable(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+
+        final String className = getRef(buffer);
+        final String message = getString(buffer);
+
+        final StackTraceElement[] traces = new StackTraceElement[buffer.getInt()];
+        for (int i = 0; i < traces.length; i++) {
+            final String classLoaderName = getRef(buffer);
+            final String moduleName = getRef(buffer);
+            final String moduleVersion = getRef(buffer);
+            final String declaringClass = getRef(buffer);
+            final String methodName = getRef(buffer);
+            final String fileName = getRef(buffer);
+            final int lineNumber = buffer.getInt();
+            traces[i] = new StackTraceElement(classLoaderName, moduleName, moduleVersion, declaringClass, methodName, fileName,
+                    lineNumber);
+        }
+
+        final Throwable cause = getThrowable(buffer);
+        final DecodedThrowable throwable = new DecodedThrowable(className, message, cause);
+        throwable.setStackTrace(traces);
+
+        final int suppressed = buffer.getInt();
+        for (int i = 0; i < suppressed; i++) {
+            final Throwable suppressedThrowable = getThrowable(buffer);
+            if (suppressedThrowable != null) {
+                throwable.addSuppressed(suppressedThrowable);
+            }
+        }
+
+        return throwable;
+    }
+
+    private Object getValue(byte type, ByteBuffer buffer) {
+        switch (type) {
+            case BinaryEventEncoder.VALUE_STRING:
+                return getString(buffer);
+            case BinaryEventEncoder.VALUE_RENDERED:
+                final String text = getString(buffer);
+                final String jsonText = getString(buffer);
+                return (json && jsonText != null)
+                        ? jsonText
+                        : text;
+            case BinaryEventEncoder.VALUE_LONG:
+                return buffer.getLong();
+            case BinaryEventEncoder.VALUE_DOUBLE:
+                return Double.longBitsToDouble(buffer.getLong());
+            default:
+                return null;
+        }
+    }
+
+    private String getRef(ByteBuffer buffer) {
+        final int id = buffer.getInt();
+        if (id == BinaryEventEncoder.REF_NULL) {
+            return null;
+        } else if (id == BinaryEventEncoder.REF_INLINE) {
+            return getString(buffer);
+        } else {
+            return dictionary.get(id);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+
+        final String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Throwable that prints like original one, its class may not be available where log is decoded
+     */
+    private static final class DecodedThrowable extends Throwable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+
+        private DecodedThrowable(String className, String message, Throwable cause) {
+            super(message, cause, true, true);
+            this.className = className;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            final String message = getLocalizedMessage();
+            return (message == null)
+                    ? className
+                    : className + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import org.slf4j.helpers.Util;
+
+/**
+ * Watches external configuration file directory with {@link WatchService} in single daemon thread and
+ * notifies when configuration file is created or modified, editors can produce a few events for single
+ * save, so listener should ignore changes that are already applied. Configuration is process-wide, so
+ * there is only single watcher for configuration file, which is replaced when another file is watched.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class ConfigurationWatcher implements Runnable {
+
+    /**
+     * Watcher that is running, guarded by class
+     */
+    private static ConfigurationWatcher current;
+
+    private final Path file;
+    private final WatchService watchService;
+    private final Runnable listener;
+
+    private ConfigurationWatcher(Path file, WatchService watchService, Runnable listener) {
+        this.file = file;
+        this.watchService = watchService;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching file unless it is already watched, directory is registered before method returns,
+     * so changes made right after start are not missed
+     *
+     * @param file     configuration file to watch
+     * @param listener to run when file changed
+     */
+    static synchronized void watch(Path file, Runnable listener) {
+        final Path absoluteFile = file.toAbsolutePath();
+        if (current != null) {
+            if (current.file.equals(absoluteFile)) {
+                return;
+            }
+
+            current.close();
+            current = null;
+        }
+
+        final WatchService watchService;
+        try {
+            watchService = absoluteFile.getFileSystem().newWatchService();
+        } catch (IOException e) {
+            Util.report("Could not watch configuration file [" + absoluteFile + "]", e);
+            return;
+        }
+
+        try {
+            absoluteFile.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            Util.report("Could not watch configuration file [" + absoluteFile + "]", e);
+            try {
+                watchService.close();
+            } catch (IOException closeException) {
+                // Ignore
+            }
+            return;
+        }
+
+        current = new ConfigurationWatcher(absoluteFile, watchService, listener);
+        final Thread thread = new Thread(current, "simple-logger-configuration-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    @Override
+    public void run() {
+        try (watchService) {
+            while (true) {
+                final WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (file.getFileName().equals(event.context())) {
+                        changed = true;
+                    }
+                }
+
+                if (changed) {
+                    try {
+                        listener.run();
+                    } catch (Exception e) {
+                        Util.report("Failed to apply configuration file [" + file + "] changes", e);
+                    }
+                }
+
+                if (!key.reset()) {
+                    Util.report("Configuration file [" + file + "] directory is not accessible anymore, stopped watching");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stopped
+        } catch (IOException e) {
+            Util.report("Could not close configuration file [" + file + "] watch", e);
+        } finally {
+            synchronized (ConfigurationWatcher.class) {
+                if (current == this) {
+                    current = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.helpers.Util;
+
+/**
+ * Defers formatting of events to single daemon thread, caller thread only captures event with its
+ * message template and arguments, while layouts and writing happen in background in order events were
+ * added. Queue is bounded, caller waits when it is full, so events are never dropped.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class DeferredEventQueue implements Runnable {
+
+    private static final long OFFER_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final BlockingQueue<SimpleLoggingEvent> queue;
+    /**
+     * Events added but not written yet
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    private volatile Thread thread;
+    private volatile boolean closed;
+    private Thread shutdownHook;
+
+    DeferredEventQueue(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Queue is closed without lock, so closed is checked again after event is queued, as {@link #close()}
+     * could have flushed queue and stopped thread in between, then caller writes what is left in queue.
+     * Caller waits in short offers rather than put, so it is not blocked by full queue of stopped thread.
+     *
+     * @param event to capture and write in background
+     */
+    void add(SimpleLoggingEvent event) {
+        if (closed) {
+            SimpleLogger.write(event);
+            return;
+        } else if (thread == null) {
+            start();
+        }
+
+        event.capture(SimpleLogger.CONFIG.snapshot().getRenderers());
+        pending.incrementAndGet();
+        try {
+            while (!queue.offer(event, OFFER_TIMEOUT_NANOS, TimeUnit.NANOSECONDS)) {
+                if (closed) {
+                    pending.decrementAndGet();
+                    drain();
+                    SimpleLogger.write(event);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // event is written by caller rather than lost
+            pending.decrementAndGet();
+            SimpleLogger.write(event);
+            return;
+        }
+
+        if (closed) {
+            drain();
+        }
+    }
+
+    /**
+     * Writes events left in queue by caller thread
+     */
+    private void drain() {
+        SimpleLoggingEvent event;
+        while ((event = queue.poll()) != null) {
+            write(event);
+        }
+    }
+
+    private void write(SimpleLoggingEvent event) {
+        try {
+            SimpleLogger.write(event);
+        } catch (Exception e) {
+            Util.report("Failed to write deferred event", e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Thread is started on first event, so no thread is started for configuration that never logs
+     */
+    private synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+
+        final Thread worker = new Thread(this, "simple-logger-deferred-writer");
+        worker.setDaemon(true);
+        worker.start();
+
+        this.shutdownHook = new Thread(this::flush, "simple-logger-deferred-flush");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        this.thread = worker;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                write(queue.take());
+            }
+        } catch (InterruptedException e) {
+            // closed
+        }
+    }
+
+    /**
+     * Waits until all added events are written
+     */
+    void flush() {
+        while (pending.get() > 0 && thread != null && thread.isAlive()) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    /**
+     * Writes remaining events and stops background thread
+     */
+    synchronized void close() {
+        closed = true;
+        if (thread == null) {
+            return;
+        }
+
+        flush();
+        thread.interrupt();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // shutdown in progress
+        }
+    }
+}
@@ -39,4 +39,29 @@ public void write(SimpleLoggingEvent event) {
             }
         }
     }
+
+    /**
+     * Encodes event under lock, as binary encoder keeps dictionary of its output
+     */
+    static final class BinaryEventWriter implements EventWriter {
+
+        private final BinaryEventEncoder eventEncoder = new BinaryEventEncoder();
+        private final OutputChoice outputChoice;
+
+        BinaryEventWriter(OutputChoice outputChoice) {
+            this.outputChoice = outputChoice;
+        }
+
+        @Override
+        public void write(SimpleLoggingEvent event) {
+            LOCK.lock();
+            try {
+                outputChoice.getStream().write(eventEncoder.encode(event));
+            } catch (IOException e) {
+                // do nothing
+            } finally {
+                LOCK.unlock();
+            }
+        }
+    }
 }
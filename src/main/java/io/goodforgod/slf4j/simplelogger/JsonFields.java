@@ -0,0 +1,154 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import io.goodforgod.slf4j.simplelogger.SimpleLoggerProperties.JsonFieldsPreset;
+
+/**
+ * JSON field names resolved once on configuration, names are pre-encoded with quotes, escaping and
+ * colon, so layouts append them as is and renaming costs nothing when event is printed.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class JsonFields {
+
+    static final int TIMESTAMP = 0;
+    static final int IMPLEMENTATION = 1;
+    static final int LEVEL = 2;
+    static final int MARKERS = 3;
+    static final int ENVIRONMENT = 4;
+    static final int THREAD = 5;
+    static final int LOGGER = 6;
+    static final int MESSAGE = 7;
+    static final int MDC = 8;
+    static final int EXCEPTION = 9;
+    static final int STACKTRACE = 10;
+
+    /**
+     * Default field names, also used as names of {@link SimpleLoggerProperties#PREFIX_JSON_FIELD}
+     * properties that override field name
+     */
+    static final String[] NAMES = {
+            "timestamp", "implementation", "level", "markers", "environment", "thread", "logger", "message", "mdc",
+            "exception", "stacktrace" };
+
+    /**
+     * Elastic Common Schema
+     */
+    private static final String[] ECS_NAMES = {
+            "@timestamp", "service.version", "log.level", "tags", "environment", "process.thread.name", "log.logger",
+            "message", "labels", "error.message", "error.stack_trace" };
+
+    /**
+     * Graylog Extended Log Format names, not standard fields are additional fields with underscore prefix,
+     * values are not converted to GELF
+     */
+    private static final String[] GRAYLOG_NAMES = {
+            "timestamp", "_implementation", "level", "_markers", "_environment", "_thread", "_logger", "short_message",
+            "_mdc", "_exception", "full_message" };
+
+    /**
+     * OpenTelemetry log data model with semantic conventions attributes
+     */
+    private static final String[] OTEL_NAMES = {
+            "timestamp", "service.version", "severity_text", "markers", "environment", "thread.name", "scope_name", "body",
+            "attributes", "exception.message", "exception.stacktrace" };
+
+    private final String timestamp;
+    private final String implementation;
+    private final String level;
+    private final String markers;
+    private final String environment;
+    private final String thread;
+    private final String logger;
+    private final String message;
+    private final String mdc;
+    private final String exception;
+    private final String stacktrace;
+
+    /**
+     * @param names of fields in order of {@link #NAMES}
+     */
+    JsonFields(String[] names) {
+        this.timestamp = encode(names[TIMESTAMP]);
+        this.implementation = encode(names[IMPLEMENTATION]);
+        this.level = encode(names[LEVEL]);
+        this.markers = encode(names[MARKERS]);
+        this.environment = encode(names[ENVIRONMENT]);
+        this.thread = encode(names[THREAD]);
+        this.logger = encode(names[LOGGER]);
+        this.message = encode(names[MESSAGE]);
+        this.mdc = encode(names[MDC]);
+        this.exception = encode(names[EXCEPTION]);
+        this.stacktrace = encode(names[STACKTRACE]);
+    }
+
+    /**
+     * @param preset to get names for
+     * @return copy of preset field names in order of {@link #NAMES}
+     */
+    static String[] getNames(JsonFieldsPreset preset) {
+        switch (preset) {
+            case ECS:
+                return ECS_NAMES.clone();
+            case GRAYLOG:
+                return GRAYLOG_NAMES.clone();
+            case OTEL:
+                return OTEL_NAMES.clone();
+            default:
+                return NAMES.clone();
+        }
+    }
+
+    private static String encode(String name) {
+        final StringBuilder builder = new StringBuilder(name.length() + 3);
+        builder.append('"');
+        builder.append(name);
+        JsonLoggerLayouts.escape(builder, 1);
+        builder.append("\":");
+        return builder.toString();
+    }
+
+    String timestamp() {
+        return timestamp;
+    }
+
+    String implementation() {
+        return implementation;
+    }
+
+    String level() {
+        return level;
+    }
+
+    String markers() {
+        return markers;
+    }
+
+    String environment() {
+        return environment;
+    }
+
+    String thread() {
+        return thread;
+    }
+
+    String logger() {
+        return logger;
+    }
+
+    String message() {
+        return message;
+    }
+
+    String mdc() {
+        return mdc;
+    }
+
+    String exception() {
+        return exception;
+    }
+
+    String stacktrace() {
+        return stacktrace;
+    }
+}
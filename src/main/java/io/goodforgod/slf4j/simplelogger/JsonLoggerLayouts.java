@@ -2,6 +2,7 @@
 
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -15,17 +16,83 @@
  */
 final class JsonLoggerLayouts {
 
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
     private JsonLoggerLayouts() {}
 
+    /**
+     * Escapes JSON string value in place, starting from the given position till the end of builder.
+     * Builder tail is copied only if there is something to escape.
+     *
+     * @param builder to escape
+     * @param from    position where JSON string value starts
+     */
+    static void escape(StringBuilder builder, int from) {
+        final int length = builder.length();
+        int i = from;
+        while (i < length && !isEscapeRequired(builder.charAt(i))) {
+            i++;
+        }
+
+        if (i == length) {
+            return;
+        }
+
+        final char[] tail = new char[length - i];
+        builder.getChars(i, length, tail, 0);
+        builder.setLength(i);
+        for (char c : tail) {
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00");
+                        builder.append(HEX[c >> 4]);
+                        builder.append(HEX[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+    }
+
+    private static boolean isEscapeRequired(char c) {
+        return c < 0x20 || c == '"' || c == '\\';
+    }
+
     static final class DateTimeLayout extends SimpleLoggerLayouts.DateTimeLayout {
 
-        DateTimeLayout(SimpleLoggerConfiguration configuration) {
-            super(configuration);
+        private final JsonFields fields;
+
+        DateTimeLayout(SimpleLoggerConfiguration.Snapshot snapshot, JsonFields fields) {
+            super(snapshot);
+            this.fields = fields;
         }
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"timestamp\":\"");
+            event.append(fields.timestamp());
+            event.append('"');
             event.append(getEventTime(event));
             event.append("\"");
         }
@@ -38,13 +105,17 @@ public int order() {
 
     static final class TimeLayout extends SimpleLoggerLayouts.TimeLayout {
 
-        TimeLayout(SimpleLoggerConfiguration configuration) {
-            super(configuration);
+        private final JsonFields fields;
+
+        TimeLayout(SimpleLoggerConfiguration.Snapshot snapshot, JsonFields fields) {
+            super(snapshot);
+            this.fields = fields;
         }
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"timestamp\":\"");
+            event.append(fields.timestamp());
+            event.append('"');
             event.append(getEventTime(event));
             event.append("\"");
         }
@@ -57,10 +128,17 @@ public int order() {
 
     static final class UnixTimeLayout implements Layout {
 
+        private final JsonFields fields;
+
+        UnixTimeLayout(JsonFields fields) {
+            this.fields = fields;
+        }
+
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"timestamp\":\"");
-            event.append(System.currentTimeMillis());
+            event.append(fields.timestamp());
+            event.append('"');
+            event.append(event.created());
             event.append("\"");
         }
 
@@ -73,15 +151,18 @@ public int order() {
     static final class MillisFromStartLayout implements Layout {
 
         private final SimpleLoggerConfiguration configuration;
+        private final JsonFields fields;
 
-        MillisFromStartLayout(SimpleLoggerConfiguration configuration) {
+        MillisFromStartLayout(SimpleLoggerConfiguration configuration, JsonFields fields) {
             this.configuration = configuration;
+            this.fields = fields;
         }
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"timestamp\":\"");
-            event.append(System.currentTimeMillis() - configuration.getInitializeTime());
+            event.append(fields.timestamp());
+            event.append('"');
+            event.append(event.created() - configuration.getInitializeTime());
             event.append("\"");
         }
 
@@ -94,14 +175,17 @@ public int order() {
     static final class ImplementationLayout implements Layout {
 
         private final SimpleLoggerConfiguration configuration;
+        private final JsonFields fields;
 
-        ImplementationLayout(SimpleLoggerConfiguration configuration) {
+        ImplementationLayout(SimpleLoggerConfiguration configuration, JsonFields fields) {
             this.configuration = configuration;
+            this.fields = fields;
         }
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"implementation\":\"");
+            event.append(fields.implementation());
+            event.append('"');
             event.append(configuration.getImplementationVersion());
             event.append("\"");
         }
@@ -112,17 +196,17 @@ public int order() {
         }
     }
 
+    /**
+     * Level field is pre-encoded together with its name for each level
+     */
     static final class LevelLayout extends SimpleLoggerLayouts.LevelLayout {
 
-        LevelLayout(String trace, String debug, String info, String warn, String error) {
-            super(trace, debug, info, warn, error);
-        }
-
-        @Override
-        public void print(SimpleLoggingEvent event) {
-            event.append("\"level\":\"");
-            event.append(renderLevel(event.level()));
-            event.append("\"");
+        LevelLayout(JsonFields fields) {
+            super(fields.level() + "\"TRACE\"",
+                    fields.level() + "\"DEBUG\"",
+                    fields.level() + "\"INFO\"",
+                    fields.level() + "\"WARN\"",
+                    fields.level() + "\"ERROR\"");
         }
 
         @Override
@@ -131,27 +215,67 @@ public int order() {
         }
     }
 
+    /**
+     * Marker fragment is cached on {@link SimpleMarker} so marker graph is rendered only when changed,
+     * fragment is array of marker names without field name
+     */
     static final class MarkerLayout implements Layout {
 
+        private final JsonFields fields;
+        private final String empty;
+
+        MarkerLayout(JsonFields fields) {
+            this.fields = fields;
+            this.empty = fields.markers() + "[]";
+        }
+
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"markers\":[");
-            if (event.marker() != null) {
-                event.append('\"');
-                event.append(event.marker().getName());
-                event.append('\"');
-                renderMarkers(event, event.marker());
+            final Marker marker = event.marker();
+            if (marker == null) {
+                event.append(empty);
+                return;
+            }
+
+            event.append(fields.markers());
+            if (marker instanceof SimpleMarker) {
+                final SimpleMarker simpleMarker = (SimpleMarker) marker;
+                String fragment = simpleMarker.getJsonFragment();
+                if (fragment == null) {
+                    final long version = SimpleMarker.version();
+                    fragment = render(marker);
+                    simpleMarker.setJsonFragment(fragment, version);
+                }
+                event.append(fragment);
+            } else {
+                event.append(render(marker));
             }
-            event.append(']');
         }
 
-        private static void renderMarkers(SimpleLoggingEvent event, Marker marker) {
-            marker.iterator().forEachRemaining(m -> {
-                event.append(",\"");
-                event.append(m.getName());
-                event.append("\"");
-                renderMarkers(event, m);
-            });
+        private static String render(Marker marker) {
+            final StringBuilder builder = new StringBuilder("[");
+            renderMarker(builder, marker);
+            renderMarkers(builder, marker);
+            builder.append(']');
+            return builder.toString();
+        }
+
+        private static void renderMarkers(StringBuilder builder, Marker marker) {
+            final Iterator<Marker> references = marker.iterator();
+            while (references.hasNext()) {
+                final Marker reference = references.next();
+                builder.append(',');
+                renderMarker(builder, reference);
+                renderMarkers(builder, reference);
+            }
+        }
+
+        private static void renderMarker(StringBuilder builder, Marker marker) {
+            builder.append('"');
+            final int nameStart = builder.length();
+            builder.append(marker.getName());
+            escape(builder, nameStart);
+            builder.append('"');
         }
 
         @Override
@@ -163,13 +287,16 @@ public int order() {
     static final class EnvironmentOnStartLayout implements Layout {
 
         private final SimpleLoggerConfiguration configuration;
+        private final JsonFields fields;
 
-        EnvironmentOnStartLayout(SimpleLoggerConfiguration configuration) {
+        EnvironmentOnStartLayout(SimpleLoggerConfiguration configuration, JsonFields fields) {
             this.configuration = configuration;
+            this.fields = fields;
         }
 
         @Override
         public void print(SimpleLoggingEvent event) {
+            event.append(fields.environment());
             event.append(configuration.getEnvironmentsOnStartJson());
         }
 
@@ -181,29 +308,32 @@ public int order() {
 
     static final class EnvironmentLayout implements Layout {
 
-        private final SimpleLoggerConfiguration configuration;
+        private final SimpleLoggerConfiguration.Snapshot snapshot;
+        private final JsonFields fields;
 
-        EnvironmentLayout(SimpleLoggerConfiguration configuration) {
-            this.configuration = configuration;
+        EnvironmentLayout(SimpleLoggerConfiguration.Snapshot snapshot, JsonFields fields) {
+            this.snapshot = snapshot;
+            this.fields = fields;
         }
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            final String environments = configuration.getEnvironments().stream()
+            final String environments = snapshot.getEnvironments().stream()
                     .map(envName -> {
                         final String envValue = System.getenv(envName);
-                        if (envValue == null && !configuration.isEnvironmentShowNullable()) {
+                        if (envValue == null && !snapshot.isEnvironmentShowNullable()) {
                             return null;
                         }
 
-                        return (configuration.isEnvironmentShowName())
+                        return (snapshot.isEnvironmentShowName())
                                 ? "{\"name\":\"" + envName + "\",\"value\":\"" + envValue + "\"}"
                                 : "\"" + envValue + "\"";
                     })
                     .filter(Objects::nonNull)
                     .collect(Collectors.joining(","));
 
-            event.append("\"environment\": [");
+            event.append(fields.environment());
+            event.append('[');
             event.append(environments);
             event.append("]");
         }
@@ -216,10 +346,17 @@ public int order() {
 
     static final class ThreadLayout implements Layout {
 
+        private final JsonFields fields;
+
+        ThreadLayout(JsonFields fields) {
+            this.fields = fields;
+        }
+
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"thread\":\"");
-            event.append(Thread.currentThread().getName());
+            event.append(fields.thread());
+            event.append('"');
+            event.append(event.threadName());
             event.append("\"");
         }
 
@@ -231,9 +368,16 @@ public int order() {
 
     static final class LoggerNameLayout implements Layout {
 
+        private final JsonFields fields;
+
+        LoggerNameLayout(JsonFields fields) {
+            this.fields = fields;
+        }
+
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"logger\":\"");
+            event.append(fields.logger());
+            event.append('"');
             event.append(event.logger());
             event.append("\"");
         }
@@ -246,10 +390,20 @@ public int order() {
 
     static final class MessageLayout implements Layout {
 
+        private final JsonFields fields;
+
+        MessageLayout(JsonFields fields) {
+            this.fields = fields;
+        }
+
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append("\"message\":\"");
-            event.append(event.message());
+            event.append(fields.message());
+            event.append('"');
+            final StringBuilder builder = event.getBuilder();
+            final int messageStart = builder.length();
+            event.appendMessage(ObjectRenderers.JSON);
+            escape(builder, messageStart);
             event.append("\"");
         }
 
@@ -259,6 +413,87 @@ public int order() {
         }
     }
 
+    /**
+     * Layout that may print nothing for event, so it prints its own leading separator when it prints
+     * anything and no separator is placed before it
+     */
+    interface OptionalLayout extends Layout {}
+
+    static final class MDCLayout implements OptionalLayout {
+
+        private final String start;
+
+        MDCLayout(JsonFields fields) {
+            this.start = "," + fields.mdc() + "{";
+        }
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final SimpleMDCAdapter.Context context = event.context();
+            if (context == null || context.size() == 0) {
+                return;
+            }
+
+            final StringBuilder builder = event.getBuilder();
+            event.append(start);
+            for (int i = 0; i < context.size(); i++) {
+                if (i != 0) {
+                    event.append(',');
+                }
+
+                event.append('"');
+                final int keyStart = builder.length();
+                event.append(context.key(i));
+                escape(builder, keyStart);
+                event.append("\":");
+
+                final String value = context.value(i);
+                if (value == null) {
+                    event.append("null");
+                } else {
+                    event.append('"');
+                    final int valueStart = builder.length();
+                    event.append(value);
+                    escape(builder, valueStart);
+                    event.append('"');
+                }
+            }
+            event.append('}');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.MDC.ordinal();
+        }
+    }
+
+    static final class KeyValueLayout implements OptionalLayout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final int count = event.keyValueCount();
+            if (count == 0) {
+                return;
+            }
+
+            final StringBuilder builder = event.getBuilder();
+            for (int i = 0; i < count; i++) {
+                event.append(",\"");
+                final int keyStart = builder.length();
+                event.append(event.key(i));
+                escape(builder, keyStart);
+                event.append("\":");
+
+                MessageFormatter.appendJsonValue(builder, event.value(i), ObjectRenderers.JSON);
+            }
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.KEY_VALUE.ordinal();
+        }
+    }
+
     static final class JsonStartTokenLayout implements Layout {
 
         @Override
@@ -298,15 +533,26 @@ public int order() {
         }
     }
 
-    static final class ThrowableLayout implements Layout {
+    static final class ThrowableLayout implements OptionalLayout {
+
+        private final String exceptionStart;
+        private final String stacktraceStart;
+
+        ThrowableLayout(JsonFields fields) {
+            this.exceptionStart = "," + fields.exception() + "\"";
+            this.stacktraceStart = "\"," + fields.stacktrace() + "[";
+        }
 
         @Override
         public void print(SimpleLoggingEvent event) {
             final Throwable throwable = event.throwable();
             if (throwable != null) {
-                event.append(",\"exception\":\"");
+                event.append(exceptionStart);
+                final StringBuilder builder = event.getBuilder();
+                final int messageStart = builder.length();
                 event.append(throwable.getMessage());
-                event.append("\",\"stacktrace\":[");
+                escape(builder, messageStart);
+                event.append(stacktraceStart);
                 printThrowable(throwable, event.getBuilder());
                 event.append("]");
             }
@@ -363,7 +609,8 @@ private void printEnclosedStackTrace(Throwable throwable,
                     n--;
                 }
 
-                if (builder.length() != 0) {
+                // all frames can be in common with enclosing trace, so there may be nothing to separate
+                if (m >= 0 && builder.charAt(builder.length() - 1) != '[') {
                     builder.append(",");
                 }
 
@@ -398,9 +645,11 @@ private void printTrace(StackTraceElement trace, String message, StringBuilder b
             if (message != null) {
                 builder.append("{\"clazz\":\"")
                         .append(trace.getClassName())
-                        .append("\",\"message\":\"")
-                        .append(message)
-                        .append("\",\"method\":\"")
+                        .append("\",\"message\":\"");
+                final int messageStart = builder.length();
+                builder.append(message);
+                escape(builder, messageStart);
+                builder.append("\",\"method\":\"")
                         .append(methodName)
                         .append(":")
                         .append(trace.getLineNumber())
@@ -0,0 +1,141 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.slf4j.event.Level;
+
+/**
+ * Lowest log level that is enabled for any logger or thread, held as target of {@link MutableCallSite},
+ * so JIT treats it as constant and level checks of levels that are disabled everywhere (like TRACE or
+ * DEBUG in production) compile down to nothing. Call site is changed only when level is lowered or
+ * when levels are refreshed, which deoptimizes code that depends on it.
+ * <p>
+ * Lowest level is lowered before logger or thread level is set, so guard never rejects enabled level.
+ * Guard is process-wide, so it tracks loggers of all factories and is raised only to lowest level of
+ * them, loggers that are no longer referenced are forgotten.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class LogLevelGuard {
+
+    private static final MutableCallSite MINIMUM_SITE = new MutableCallSite(constant(SimpleLogger.LOG_LEVEL_OFF));
+    private static final MethodHandle MINIMUM = MINIMUM_SITE.dynamicInvoker();
+
+    private static volatile int minimum = SimpleLogger.LOG_LEVEL_OFF;
+    /**
+     * Lowest level of thread levels set since there was no thread level active, guarded by class
+     */
+    private static int threadMinimum = SimpleLogger.LOG_LEVEL_OFF;
+    /**
+     * Thread levels that are set and did not end yet, guarded by class
+     */
+    private static int threadLevels;
+    /**
+     * Loggers which levels were set, guarded by class
+     */
+    private static final Set<SimpleLogger> LOGGERS = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private LogLevelGuard() {}
+
+    /**
+     * Level is compared by reference, so when level is constant after inlining its int value is constant
+     * too, unlike {@link Level#toInt()} field read
+     *
+     * @param level to convert
+     * @return level int value
+     */
+    static int toInt(Level level) {
+        if (level == Level.TRACE) {
+            return 0;
+        } else if (level == Level.DEBUG) {
+            return 10;
+        } else if (level == Level.INFO) {
+            return 20;
+        } else if (level == Level.WARN) {
+            return 30;
+        } else if (level == Level.ERROR) {
+            return 40;
+        } else {
+            return level.toInt();
+        }
+    }
+
+    /**
+     * @param logLevel to check
+     * @return false if level is disabled for all loggers and threads
+     */
+    static boolean isEnabledAnywhere(int logLevel) {
+        try {
+            return logLevel >= (int) MINIMUM.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Level is set under guard lock, so {@link #reset()} never misses level that is being lowered
+     *
+     * @param logger   to set level for
+     * @param logLevel to set
+     */
+    static synchronized void setLevel(SimpleLogger logger, int logLevel) {
+        LOGGERS.add(logger);
+        if (logLevel < minimum) {
+            setMinimum(logLevel);
+        }
+        logger.currentLogLevel = logLevel;
+    }
+
+    /**
+     * @param logLevel that is going to be set for thread, {@link #releaseForThread()} should be called
+     *                     when thread level ends
+     */
+    static synchronized void lowerForThread(int logLevel) {
+        threadLevels++;
+        if (logLevel < threadMinimum) {
+            threadMinimum = logLevel;
+        }
+        if (logLevel < minimum) {
+            setMinimum(logLevel);
+        }
+    }
+
+    /**
+     * Lowest thread level is forgotten when no thread level is active, lowest level itself is raised on
+     * next {@link #reset()} rather than here, so code is not deoptimized each time thread level ends
+     */
+    static synchronized void releaseForThread() {
+        if (--threadLevels == 0) {
+            threadMinimum = SimpleLogger.LOG_LEVEL_OFF;
+        }
+    }
+
+    /**
+     * Sets exact lowest level of all live loggers and active thread levels, called when levels of
+     * loggers are recomputed
+     */
+    static synchronized void reset() {
+        int newMinimum = threadMinimum;
+        for (SimpleLogger logger : LOGGERS) {
+            newMinimum = Math.min(newMinimum, logger.currentLogLevel);
+        }
+        if (newMinimum != minimum) {
+            setMinimum(newMinimum);
+        }
+    }
+
+    private static void setMinimum(int logLevel) {
+        MINIMUM_SITE.setTarget(constant(logLevel));
+        MutableCallSite.syncAll(new MutableCallSite[] { MINIMUM_SITE });
+        minimum = logLevel;
+    }
+
+    private static MethodHandle constant(int logLevel) {
+        return MethodHandles.constant(int.class, logLevel);
+    }
+}
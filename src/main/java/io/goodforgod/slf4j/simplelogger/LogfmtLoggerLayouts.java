@@ -0,0 +1,432 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.Marker;
+
+/**
+ * Logfmt logger layout implementations, each layout prints its <code>key=value</code> field followed
+ * by space, field keys are precomputed and value is quoted and escaped only when it contains space,
+ * quote, equals sign or control characters.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class LogfmtLoggerLayouts {
+
+    private LogfmtLoggerLayouts() {}
+
+    /**
+     * Quotes and escapes logfmt value in place, starting from the given position till the end of
+     * builder, value is left as is when quoting is not required.
+     *
+     * @param builder to quote
+     * @param from    position where value starts
+     */
+    static void quote(StringBuilder builder, int from) {
+        final int length = builder.length();
+        int i = from;
+        while (i < length && !isQuoteRequired(builder.charAt(i))) {
+            i++;
+        }
+
+        if (i == length && length != from) {
+            return;
+        }
+
+        builder.insert(from, '"');
+        JsonLoggerLayouts.escape(builder, from + 1);
+        builder.append('"');
+    }
+
+    private static boolean isQuoteRequired(char c) {
+        return c <= ' ' || c == '=' || c == '"' || c == '\\';
+    }
+
+    /**
+     * Replaces characters that are not allowed in logfmt key in place, starting from the given position
+     * till the end of builder
+     *
+     * @param builder to sanitize
+     * @param from    position where key starts
+     */
+    static void sanitizeKey(StringBuilder builder, int from) {
+        for (int i = from; i < builder.length(); i++) {
+            if (isQuoteRequired(builder.charAt(i))) {
+                builder.setCharAt(i, '_');
+            }
+        }
+    }
+
+    private static void appendField(StringBuilder builder, String key, Object value) {
+        final int keyStart = builder.length();
+        builder.append(key);
+        sanitizeKey(builder, keyStart);
+        builder.append('=');
+        final int valueStart = builder.length();
+        MessageFormatter.appendArgument(builder, value, ObjectRenderers.TEXT);
+        quote(builder, valueStart);
+        builder.append(' ');
+    }
+
+    static final class DateTimeLayout extends SimpleLoggerLayouts.DateTimeLayout {
+
+        DateTimeLayout(SimpleLoggerConfiguration.Snapshot snapshot) {
+            super(snapshot);
+        }
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append("time=");
+            final StringBuilder builder = event.getBuilder();
+            final int valueStart = builder.length();
+            event.append(getEventTime(event));
+            quote(builder, valueStart);
+            event.append(' ');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.DATE_TIME.ordinal();
+        }
+    }
+
+    static final class TimeLayout extends SimpleLoggerLayouts.TimeLayout {
+
+        TimeLayout(SimpleLoggerConfiguration.Snapshot snapshot) {
+            super(snapshot);
+        }
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append("time=");
+            final StringBuilder builder = event.getBuilder();
+            final int valueStart = builder.length();
+            event.append(getEventTime(event));
+            quote(builder, valueStart);
+            event.append(' ');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.DATE_TIME.ordinal();
+        }
+    }
+
+    static final class UnixTimeLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append("time=");
+            event.append(event.created());
+            event.append(' ');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.DATE_TIME.ordinal();
+        }
+    }
+
+    static final class MillisFromStartLayout implements Layout {
+
+        private final SimpleLoggerConfiguration configuration;
+
+        MillisFromStartLayout(SimpleLoggerConfiguration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append("time=");
+            event.append(event.created() - configuration.getInitializeTime());
+            event.append(' ');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.DATE_TIME.ordinal();
+        }
+    }
+
+    static final class ImplementationLayout implements Layout {
+
+        private final String field;
+
+        ImplementationLayout(SimpleLoggerConfiguration configuration) {
+            final StringBuilder builder = new StringBuilder();
+            appendField(builder, "implementation", configuration.getImplementationVersion());
+            this.field = builder.toString();
+        }
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append(field);
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.IMPLEMENTATION.ordinal();
+        }
+    }
+
+    static final class MarkerLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final Marker marker = event.marker();
+            if (marker == null) {
+                return;
+            }
+
+            event.append("markers=");
+            final StringBuilder builder = event.getBuilder();
+            final int valueStart = builder.length();
+            event.append(marker.getName());
+            appendMarkers(builder, marker);
+            quote(builder, valueStart);
+            event.append(' ');
+        }
+
+        private static void appendMarkers(StringBuilder builder, Marker marker) {
+            final Iterator<Marker> references = marker.iterator();
+            while (references.hasNext()) {
+                final Marker reference = references.next();
+                builder.append(',');
+                builder.append(reference.getName());
+                appendMarkers(builder, reference);
+            }
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.MARKER.ordinal();
+        }
+    }
+
+    /**
+     * Environments are printed as separate fields when names are shown, otherwise as single
+     * <code>environment</code> field with comma separated values
+     */
+    private static void appendEnvironments(StringBuilder builder,
+                                           List<String> environments,
+                                           boolean showName,
+                                           boolean showNullable) {
+        int valueStart = -1;
+        for (String envName : environments) {
+            final String envValue = System.getenv(envName);
+            if (envValue == null && !showNullable) {
+                continue;
+            }
+
+            if (showName) {
+                appendField(builder, envName, envValue);
+            } else if (valueStart == -1) {
+                builder.append("environment=");
+                valueStart = builder.length();
+                builder.append(envValue);
+            } else {
+                builder.append(',');
+                builder.append(envValue);
+            }
+        }
+
+        if (valueStart != -1) {
+            quote(builder, valueStart);
+            builder.append(' ');
+        }
+    }
+
+    static final class EnvironmentOnStartLayout implements Layout {
+
+        private final String fields;
+
+        EnvironmentOnStartLayout(List<String> environments, boolean showName, boolean showNullable) {
+            final StringBuilder builder = new StringBuilder();
+            appendEnvironments(builder, environments, showName, showNullable);
+            this.fields = builder.toString();
+        }
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append(fields);
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.ENVIRONMENT.ordinal();
+        }
+    }
+
+    static final class EnvironmentLayout implements Layout {
+
+        private final SimpleLoggerConfiguration.Snapshot snapshot;
+
+        EnvironmentLayout(SimpleLoggerConfiguration.Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            appendEnvironments(event.getBuilder(), snapshot.getEnvironments(), snapshot.isEnvironmentShowName(),
+                    snapshot.isEnvironmentShowNullable());
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.ENVIRONMENT.ordinal();
+        }
+    }
+
+    static final class ThreadLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append("thread=");
+            final StringBuilder builder = event.getBuilder();
+            final int valueStart = builder.length();
+            event.append(event.threadName());
+            quote(builder, valueStart);
+            event.append(' ');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.THREAD.ordinal();
+        }
+    }
+
+    static final class MDCLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final SimpleMDCAdapter.Context context = event.context();
+            if (context == null) {
+                return;
+            }
+
+            final StringBuilder builder = event.getBuilder();
+            for (int i = 0; i < context.size(); i++) {
+                appendField(builder, context.key(i), context.value(i));
+            }
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.MDC.ordinal();
+        }
+    }
+
+    /**
+     * Event logger name is already short or full name depending on showShortLogName, same as for TEXT
+     */
+    static final class LoggerNameLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append("logger=");
+            final StringBuilder builder = event.getBuilder();
+            final int valueStart = builder.length();
+            event.append(event.logger());
+            quote(builder, valueStart);
+            event.append(' ');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.LOGGER_NAME.ordinal();
+        }
+    }
+
+    static final class MessageLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            event.append("msg=");
+            final StringBuilder builder = event.getBuilder();
+            final int messageStart = builder.length();
+            event.appendMessage(ObjectRenderers.TEXT);
+            quote(builder, messageStart);
+            event.append(' ');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.MESSAGE.ordinal();
+        }
+    }
+
+    static final class KeyValueLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final int count = event.keyValueCount();
+            final StringBuilder builder = event.getBuilder();
+            for (int i = 0; i < count; i++) {
+                appendField(builder, event.key(i), event.value(i));
+            }
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.KEY_VALUE.ordinal();
+        }
+    }
+
+    /**
+     * Stack trace is rendered same as in TEXT format into single quoted <code>stacktrace</code> field
+     */
+    static final class ThrowableLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final Throwable throwable = event.throwable();
+            if (throwable == null) {
+                return;
+            }
+
+            final StringBuilder builder = event.getBuilder();
+            event.append("exception=");
+            final int messageStart = builder.length();
+            event.append(throwable.getMessage());
+            quote(builder, messageStart);
+
+            event.append(" stacktrace=");
+            final int traceStart = builder.length();
+            SimpleLoggerLayouts.ThrowableLayout.printThrowable(throwable, builder);
+            int traceEnd = builder.length();
+            while (traceEnd > traceStart && Character.isWhitespace(builder.charAt(traceEnd - 1))) {
+                traceEnd--;
+            }
+            builder.setLength(traceEnd);
+            quote(builder, traceStart);
+            event.append(' ');
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.THROWABLE.ordinal();
+        }
+    }
+
+    /**
+     * Ends event line, space after last field is replaced with line separator
+     */
+    static final class SeparatorLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final StringBuilder builder = event.getBuilder();
+            final int length = builder.length();
+            if (length > 0 && builder.charAt(length - 1) == ' ') {
+                builder.setLength(length - 1);
+            }
+            event.append(System.lineSeparator());
+        }
+
+        @Override
+        public int order() {
+            return SimpleLoggerLayouts.LayoutOrder.EVENT_SEPARATOR.ordinal();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Package tree of logger levels, where each node is logger name segment separated by dot and nearest
+ * defined level is found in single walk without allocation.
+ * <p>
+ * Level defined for "a.b" applies to "a.b" and "a.b.c" loggers, but not to "a.bc" logger. Loggers can
+ * be registered in tree, so loggers of a subtree are visited without visiting all loggers.
+ * <p>
+ * Children and loggers arrays grow geometrically and children of wide nodes (like package with
+ * thousands of classes) are also indexed in open addressing hash table by segment hash, so inserts and
+ * lookups stay constant time per segment and lookup does not allocate substring of name.
+ * <p>
+ * Tree is not thread safe, changes should be guarded by its owner.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class LoggerLevelTree {
+
+    static final int LEVEL_UNDEFINED = -1;
+
+    /**
+     * Children are scanned linearly up to this count, wider nodes index children in hash table
+     */
+    private static final int LINEAR_CHILDREN = 8;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static final Node[] EMPTY = new Node[0];
+    private static final SimpleLogger[] NO_LOGGERS = new SimpleLogger[0];
+
+    private static final class Node {
+
+        private final String segment;
+        private final int hash;
+        /**
+         * Children in order they were added, first {@link #childCount} are set
+         */
+        private Node[] children = EMPTY;
+        private int childCount;
+        /**
+         * Hash table of children with power of two length and at most half full, null for narrow node
+         */
+        private Node[] childTable;
+        private int level = LEVEL_UNDEFINED;
+        private SimpleLogger[] loggers = NO_LOGGERS;
+        private int loggerCount;
+
+        private Node(String segment) {
+            this.segment = segment;
+            this.hash = segment.hashCode();
+        }
+
+        private Node getChild(String name, int start, int end) {
+            final int length = end - start;
+            if (childTable == null) {
+                for (int i = 0; i < childCount; i++) {
+                    final Node child = children[i];
+                    if (child.segment.length() == length && name.regionMatches(start, child.segment, 0, length)) {
+                        return child;
+                    }
+                }
+                return null;
+            }
+
+            final int hash = hash(name, start, end);
+            final int mask = childTable.length - 1;
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                final Node child = childTable[i];
+                if (child == null) {
+                    return null;
+                } else if (child.hash == hash
+                        && child.segment.length() == length
+                        && name.regionMatches(start, child.segment, 0, length)) {
+                    return child;
+                }
+            }
+        }
+
+        private Node addChild(String segment) {
+            final Node child = new Node(segment);
+            if (childCount == children.length) {
+                children = Arrays.copyOf(children, Math.max(INITIAL_CAPACITY, childCount * 2));
+            }
+            children[childCount++] = child;
+
+            if (childTable != null && childCount * 2 <= childTable.length) {
+                putChild(childTable, child);
+            } else if (childCount > LINEAR_CHILDREN) {
+                final Node[] table = new Node[Integer.highestOneBit(childCount) * 4];
+                for (int i = 0; i < childCount; i++) {
+                    putChild(table, children[i]);
+                }
+                childTable = table;
+            }
+            return child;
+        }
+
+        private static void putChild(Node[] table, Node child) {
+            final int mask = table.length - 1;
+            int i = child.hash & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = child;
+        }
+
+        private void addLogger(SimpleLogger logger) {
+            if (loggerCount == loggers.length) {
+                loggers = Arrays.copyOf(loggers, Math.max(INITIAL_CAPACITY, loggerCount * 2));
+            }
+            loggers[loggerCount++] = logger;
+        }
+    }
+
+    /**
+     * @return same hash as {@link String#hashCode()} of name segment
+     */
+    private static int hash(String name, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + name.charAt(i);
+        }
+        return hash;
+    }
+
+    private final Node root = new Node("");
+
+    /**
+     * @param loggerName logger name or package prefix
+     * @param level      to set for logger and its descendants
+     */
+    void put(String loggerName, int level) {
+        getOrCreateNode(loggerName).level = level;
+    }
+
+    /**
+     * @param loggerName logger name or package prefix
+     * @return level set exactly for such name, not inherited from ancestor, or {@link #LEVEL_UNDEFINED}
+     */
+    int get(String loggerName) {
+        final Node node = findNode(loggerName);
+        return (node == null)
+                ? LEVEL_UNDEFINED
+                : node.level;
+    }
+
+    /**
+     * @param loggerName logger name or package prefix to remove level for
+     */
+    void remove(String loggerName) {
+        final Node node = findNode(loggerName);
+        if (node != null) {
+            node.level = LEVEL_UNDEFINED;
+        }
+    }
+
+    /**
+     * @param logger to register at node of its name
+     */
+    void register(SimpleLogger logger) {
+        getOrCreateNode(logger.getName()).addLogger(logger);
+    }
+
+    /**
+     * @param loggerName logger name or package prefix
+     * @param consumer   to accept registered logger with such name and all its descendant loggers
+     */
+    void forEachLogger(String loggerName, Consumer<SimpleLogger> consumer) {
+        final Node node = findNode(loggerName);
+        if (node != null) {
+            forEachLogger(node, consumer);
+        }
+    }
+
+    private static void forEachLogger(Node node, Consumer<SimpleLogger> consumer) {
+        for (int i = 0; i < node.loggerCount; i++) {
+            consumer.accept(node.loggers[i]);
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            forEachLogger(node.children[i], consumer);
+        }
+    }
+
+    /**
+     * @param loggerName to find level for
+     * @return level of the logger or its nearest ancestor or {@link #LEVEL_UNDEFINED}
+     */
+    int find(String loggerName) {
+        int level = LEVEL_UNDEFINED;
+        Node node = root;
+        int start = 0;
+        while (true) {
+            final int end = segmentEnd(loggerName, start);
+            node = node.getChild(loggerName, start, end);
+            if (node == null) {
+                return level;
+            }
+
+            if (node.level != LEVEL_UNDEFINED) {
+                level = node.level;
+            }
+
+            if (end == loggerName.length()) {
+                return level;
+            }
+
+            start = end + 1;
+        }
+    }
+
+    private Node getOrCreateNode(String loggerName) {
+        Node node = root;
+        int start = 0;
+        while (true) {
+            final int end = segmentEnd(loggerName, start);
+            final Node child = node.getChild(loggerName, start, end);
+            node = (child == null)
+                    ? node.addChild(loggerName.substring(start, end))
+                    : child;
+
+            if (end == loggerName.length()) {
+                return node;
+            }
+
+            start = end + 1;
+        }
+    }
+
+    private Node findNode(String loggerName) {
+        Node node = root;
+        int start = 0;
+        while (true) {
+            final int end = segmentEnd(loggerName, start);
+            node = node.getChild(loggerName, start, end);
+            if (node == null || end == loggerName.length()) {
+                return node;
+            }
+
+            start = end + 1;
+        }
+    }
+
+    private static int segmentEnd(String loggerName, int start) {
+        final int dot = loggerName.indexOf('.', start);
+        return (dot == -1)
+                ? loggerName.length()
+                : dot;
+    }
+}
@@ -1,10 +1,11 @@
 package io.goodforgod.slf4j.simplelogger;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
-import org.slf4j.helpers.FormattingTuple;
 import org.slf4j.helpers.Util;
 
 /**
@@ -15,149 +16,361 @@
  */
 final class MessageFormatter {
 
-    private static final FormattingTuple EMPTY = new FormattingTuple(null, null, null);
+    /**
+     * Pre-parsed message pattern, where escaped delimiters are already resolved and pattern is split
+     * into literal segments around each {@link #DELIMITER} placeholder.
+     */
+    static final class Template {
+
+        private final String pattern;
+        /**
+         * Literal before each placeholder and literal tail as last element (escapes resolved)
+         */
+        private final String[] literals;
+        /**
+         * Pattern remainder as is from each segment start, used when arguments are exhausted
+         */
+        private final String[] suffixes;
+
+        private Template(String pattern, String[] literals, String[] suffixes) {
+            this.pattern = pattern;
+            this.literals = literals;
+            this.suffixes = suffixes;
+        }
+
+        int placeholders() {
+            return literals.length - 1;
+        }
 
-    private static final class FormatBuilder {
+        /**
+         * @param builder to append to
+         * @param index   of placeholder which literal prefix to append
+         * @return true if placeholder exist and argument should be appended after literal
+         */
+        boolean appendPrefix(StringBuilder builder, int index) {
+            if (index < literals.length - 1) {
+                builder.append(literals[index]);
+                return true;
+            }
 
-        private final StringBuilder builder;
-        private int i = 0;
-        private int j = 0;
-        private int a = 0;
+            return false;
+        }
 
-        private FormatBuilder() {
-            this.builder = new StringBuilder();
+        /**
+         * Same as {@link org.slf4j.helpers.MessageFormatter} when arguments are exhausted the rest of the
+         * pattern is appended as is, otherwise resolved tail literal is appended
+         *
+         * @param builder   to append to
+         * @param arguments number of arguments that were available for formatting
+         */
+        void appendSuffix(StringBuilder builder, int arguments) {
+            final int placeholders = literals.length - 1;
+            if (arguments > placeholders) {
+                builder.append(literals[placeholders]);
+            } else {
+                builder.append(suffixes[arguments]);
+            }
         }
     }
 
+    /**
+     * Message arguments source that appends arguments itself, so primitives are appended without boxing
+     */
+    interface Arguments {
+
+        /**
+         * @return number of arguments
+         */
+        int count();
+
+        /**
+         * @param builder   to append argument to
+         * @param index     of argument to append
+         * @param renderers to render object arguments with
+         */
+        void appendArgument(StringBuilder builder, int index, ObjectRenderers renderers);
+    }
+
+    /**
+     * Patterns are mostly string literals, so templates are cached by pattern identity in direct mapped
+     * cache. Pattern that misses taken slot is formatted by direct scan and is compiled only when it is
+     * seen again, so concatenated patterns do not allocate templates and do not evict hot ones.
+     */
+    static final int TEMPLATE_CACHE_SIZE = 1024;
+    private static final Template[] TEMPLATE_CACHE = new Template[TEMPLATE_CACHE_SIZE];
+    /**
+     * Last pattern that missed taken slot, compiled when it misses the slot again
+     */
+    private static final String[] TEMPLATE_CANDIDATES = new String[TEMPLATE_CACHE_SIZE];
+
     private static final char DELIMITER_OPEN = '{';
-    private static final char DELIMITER_CLOSE = '}';
     private static final String DELIMITER = "{}";
     private static final char ESCAPE_CHAR = '\\';
 
     private MessageFormatter() {}
 
-    static FormattingTuple format(String messagePattern, Object arg) {
-        if (messagePattern == null) {
-            return EMPTY;
+    /**
+     * @param messagePattern to get template for
+     * @return cached template or null when pattern should be formatted by direct scan
+     */
+    static Template getTemplate(String messagePattern) {
+        final int index = System.identityHashCode(messagePattern) & (TEMPLATE_CACHE_SIZE - 1);
+        final Template cached = TEMPLATE_CACHE[index];
+        if (cached != null) {
+            if (cached.pattern == messagePattern) {
+                return cached;
+            } else if (TEMPLATE_CANDIDATES[index] != messagePattern) {
+                TEMPLATE_CANDIDATES[index] = messagePattern;
+                return null;
+            }
         }
 
-        final int j = findDelimiterLast(messagePattern, messagePattern.length() - 1);
-        if (j == -1) {
-            return new FormattingTuple(messagePattern, null, null);
-        }
+        // Template fields are final, so it is safely published through racy cache
+        final Template template = compile(messagePattern);
+        TEMPLATE_CACHE[index] = template;
+        return template;
+    }
+
+    static Template compile(String messagePattern) {
+        final List<String> literals = new ArrayList<>(4);
+        final List<String> suffixes = new ArrayList<>(4);
+        suffixes.add(messagePattern);
+
+        StringBuilder literal = null;
+        int i = 0;
+        int j = messagePattern.indexOf(DELIMITER);
+        while (j != -1) {
+            if (isEscapedDelimiter(messagePattern, j) && !isDoubleEscaped(messagePattern, j)) {
+                // escaped delimiter is printed as is without escape char and does not consume argument
+                if (literal == null) {
+                    literal = new StringBuilder(messagePattern.length());
+                }
+
+                literal.append(messagePattern, i, j - 1).append(DELIMITER_OPEN);
+                i = j + 1;
+            } else {
+                // double escaped delimiter is placeholder and escape char is printed only once
+                final int literalEnd = isEscapedDelimiter(messagePattern, j)
+                        ? j - 1
+                        : j;
+
+                if (literal == null) {
+                    literals.add(messagePattern.substring(i, literalEnd));
+                } else {
+                    literals.add(literal.append(messagePattern, i, literalEnd).toString());
+                    literal = null;
+                }
 
-        final FormatBuilder fb = new FormatBuilder();
+                i = j + 2;
+                suffixes.add(messagePattern.substring(i));
+            }
 
-        fb.j = j;
-        appendArgument(messagePattern, fb, arg);
+            j = messagePattern.indexOf(DELIMITER, i);
+        }
 
-        fb.builder.append(messagePattern, fb.i, messagePattern.length());
-        return new FormattingTuple(fb.builder.toString(), null, null);
+        if (literal == null) {
+            literals.add(messagePattern.substring(i));
+        } else {
+            literals.add(literal.append(messagePattern, i, messagePattern.length()).toString());
+        }
+
+        return new Template(messagePattern, literals.toArray(String[]::new), suffixes.toArray(String[]::new));
     }
 
-    static FormattingTuple format(String messagePattern, Object arg1, Object arg2) {
+    static void format(StringBuilder builder, String messagePattern, Object arg, ObjectRenderers renderers) {
         if (messagePattern == null) {
-            return EMPTY;
+            builder.append((String) null);
+            return;
         }
 
-        final int j2 = findDelimiterLast(messagePattern, messagePattern.length() - 1);
-        if (j2 == -1) {
-            return new FormattingTuple(messagePattern, null, null);
+        final Template template = getTemplate(messagePattern);
+        if (template == null) {
+            final int position = appendLiteral(builder, messagePattern, 0);
+            if (position != -1) {
+                deeplyAppendParameter(builder, arg, null, renderers);
+                builder.append(messagePattern, position, messagePattern.length());
+            }
+            return;
         }
 
-        final int j1 = findDelimiterLast(messagePattern, j2 - 1);
-        final FormatBuilder fb = new FormatBuilder();
-        fb.j = (j1 < 0)
-                ? j2
-                : j1;
-
-        appendArgument(messagePattern, fb, arg1);
-        if (j1 >= 0) {
-            fb.j = j2;
-            if (fb.a == -1) {
-                appendArgument(messagePattern, fb, arg1);
-            } else {
-                appendArgument(messagePattern, fb, arg2);
-            }
+        if (template.appendPrefix(builder, 0)) {
+            deeplyAppendParameter(builder, arg, null, renderers);
         }
 
-        fb.builder.append(messagePattern, fb.i, messagePattern.length());
-        return new FormattingTuple(fb.builder.toString(), null, null);
+        template.appendSuffix(builder, 1);
     }
 
-    private static int findDelimiterLast(String message, int startPosition) {
-        int opened = message.lastIndexOf(DELIMITER_OPEN, startPosition);
-        if (opened == message.length() - 1) {
-            opened = message.lastIndexOf(DELIMITER_OPEN, opened - 1);
+    static void format(StringBuilder builder, String messagePattern, Object arg1, Object arg2, ObjectRenderers renderers) {
+        if (messagePattern == null) {
+            builder.append((String) null);
+            return;
         }
 
-        while (opened != -1) {
-            if (message.charAt(opened + 1) == DELIMITER_CLOSE) {
-                return opened;
-            } else {
-                opened = message.lastIndexOf(DELIMITER_OPEN, opened - 1);
+        final Template template = getTemplate(messagePattern);
+        if (template == null) {
+            int position = appendLiteral(builder, messagePattern, 0);
+            if (position != -1) {
+                deeplyAppendParameter(builder, arg1, null, renderers);
+                position = appendLiteral(builder, messagePattern, position);
+                if (position != -1) {
+                    deeplyAppendParameter(builder, arg2, null, renderers);
+                    builder.append(messagePattern, position, messagePattern.length());
+                }
             }
+            return;
         }
 
-        return opened;
+        if (template.appendPrefix(builder, 0)) {
+            deeplyAppendParameter(builder, arg1, null, renderers);
+            if (template.appendPrefix(builder, 1)) {
+                deeplyAppendParameter(builder, arg2, null, renderers);
+            }
+        }
+
+        template.appendSuffix(builder, 2);
     }
 
-    static FormattingTuple formatArray(String messagePattern, Object[] argArray) {
-        Throwable throwableCandidate = org.slf4j.helpers.MessageFormatter.getThrowableCandidate(argArray);
-        Object[] args = argArray;
-        if (throwableCandidate != null) {
-            args = org.slf4j.helpers.MessageFormatter.trimmedCopy(argArray);
+    static void format(StringBuilder builder, String messagePattern, Arguments arguments, ObjectRenderers renderers) {
+        if (messagePattern == null) {
+            builder.append((String) null);
+            return;
+        }
+
+        final int argCount = arguments.count();
+        if (argCount == 0) {
+            builder.append(messagePattern);
+            return;
         }
 
-        return formatArray(messagePattern, args, throwableCandidate);
+        final Template template = getTemplate(messagePattern);
+        if (template == null) {
+            int position = 0;
+            for (int i = 0; i < argCount; i++) {
+                position = appendLiteral(builder, messagePattern, position);
+                if (position == -1) {
+                    return;
+                }
+                arguments.appendArgument(builder, i, renderers);
+            }
+
+            builder.append(messagePattern, position, messagePattern.length());
+            return;
+        }
+
+        for (int i = 0; i < argCount && template.appendPrefix(builder, i); i++) {
+            arguments.appendArgument(builder, i, renderers);
+        }
+
+        template.appendSuffix(builder, argCount);
     }
 
-    static FormattingTuple formatArray(String messagePattern, Object[] argArray, Throwable throwable) {
+    /**
+     * @param builder        to format message into
+     * @param messagePattern to format
+     * @param argArray       arguments to format with
+     * @param argCount       number of arguments to use from array, so trailing throwable candidate
+     *                       is excluded without array copy
+     * @param renderers      to render object arguments with
+     */
+    static void formatArray(StringBuilder builder,
+                            String messagePattern,
+                            Object[] argArray,
+                            int argCount,
+                            ObjectRenderers renderers) {
         if (messagePattern == null) {
-            return new FormattingTuple(null, null, throwable);
-        } else if (argArray == null) {
-            return new FormattingTuple(messagePattern, null, throwable);
+            builder.append((String) null);
+        } else if (argArray == null || argCount == 0) {
+            builder.append(messagePattern);
         } else {
-            int firstArg = messagePattern.indexOf(DELIMITER);
-            if (firstArg == -1) {
-                return new FormattingTuple(messagePattern, null, throwable);
+            final Template template = getTemplate(messagePattern);
+            if (template == null) {
+                int position = 0;
+                for (int i = 0; i < argCount; i++) {
+                    position = appendLiteral(builder, messagePattern, position);
+                    if (position == -1) {
+                        return;
+                    }
+                    deeplyAppendParameter(builder, argArray[i], null, renderers);
+                }
+
+                builder.append(messagePattern, position, messagePattern.length());
+                return;
             }
 
-            final int limit = argArray.length;
-            final FormatBuilder fb = new FormatBuilder();
-            fb.j = firstArg;
-            while (fb.a < limit) {
-                final Object arg = argArray[fb.a];
-                appendArgument(messagePattern, fb, arg);
-                fb.a++;
-
-                fb.j = messagePattern.indexOf(DELIMITER, fb.i);
-                if (fb.j == -1) {
-                    break;
-                }
+            for (int i = 0; i < argCount && template.appendPrefix(builder, i); i++) {
+                deeplyAppendParameter(builder, argArray[i], null, renderers);
             }
 
-            fb.builder.append(messagePattern, fb.i, messagePattern.length());
-            return new FormattingTuple(fb.builder.toString(), argArray, throwable);
+            template.appendSuffix(builder, argCount);
         }
     }
 
-    private static void appendArgument(String messagePattern, FormatBuilder fb, Object arg) {
-        if (isEscapedDelimiter(messagePattern, fb.j)) {
-            if (!isDoubleEscaped(messagePattern, fb.j)) {
-                --fb.a;
-                fb.builder.append(messagePattern, fb.i, fb.j - 1);
-                fb.builder.append('{');
-                fb.i = fb.j + 1;
+    /**
+     * Direct scan analog of {@link Template} literals, appends pattern from index up to next placeholder
+     * with escapes resolved, or the rest of pattern when there is no placeholder left. When arguments are
+     * exhausted caller appends the rest of pattern as is, same as {@link Template#appendSuffix}.
+     *
+     * @param builder        to append to
+     * @param messagePattern to scan
+     * @param from           index to scan from
+     * @return index after placeholder or -1 when there is no placeholder left
+     */
+    private static int appendLiteral(StringBuilder builder, String messagePattern, int from) {
+        int i = from;
+        int j = messagePattern.indexOf(DELIMITER, i);
+        while (j != -1) {
+            if (isEscapedDelimiter(messagePattern, j) && !isDoubleEscaped(messagePattern, j)) {
+                builder.append(messagePattern, i, j - 1).append(DELIMITER_OPEN);
+                i = j + 1;
             } else {
-                fb.builder.append(messagePattern, fb.i, fb.j - 1);
-                deeplyAppendParameter(fb.builder, arg, null);
-                fb.i = fb.j + 2;
+                final int literalEnd = isEscapedDelimiter(messagePattern, j)
+                        ? j - 1
+                        : j;
+
+                builder.append(messagePattern, i, literalEnd);
+                return j + 2;
             }
-        } else {
-            fb.builder.append(messagePattern, fb.i, fb.j);
-            deeplyAppendParameter(fb.builder, arg, null);
-            fb.i = fb.j + 2;
+
+            j = messagePattern.indexOf(DELIMITER, i);
+        }
+
+        builder.append(messagePattern, i, messagePattern.length());
+        return -1;
+    }
+
+    /**
+     * @param argArray to check
+     * @return last argument if it is {@link Throwable} or null
+     */
+    static Throwable getThrowableCandidate(Object[] argArray) {
+        return org.slf4j.helpers.MessageFormatter.getThrowableCandidate(argArray);
+    }
+
+    /**
+     * @param builder  to append argument to
+     * @param argument  to append same way as it is appended when message is formatted
+     * @param renderers to render object argument with
+     */
+    static void appendArgument(StringBuilder builder, Object argument, ObjectRenderers renderers) {
+        deeplyAppendParameter(builder, argument, null, renderers);
+    }
+
+    /**
+     * @param builder   to append value to
+     * @param value     to append as JSON value, supplier is called first, value that fails to render is
+     *                      appended as failed string same way as argument of message
+     * @param renderers to render value with
+     */
+    static void appendJsonValue(StringBuilder builder, Object value, ObjectRenderers renderers) {
+        final int start = builder.length();
+        try {
+            renderers.renderJsonValue(builder, (value instanceof Supplier)
+                    ? ((Supplier<?>) value).get()
+                    : value);
+        } catch (Throwable throwable) {
+            builder.setLength(start);
+            Util.report("SLF4J: Failed toString() invocation on an object of type [" + value.getClass().getName() + "]", throwable);
+            builder.append("\"[FAILED toString()]\"");
         }
     }
 
@@ -171,12 +384,15 @@ private static boolean isDoubleEscaped(String messagePattern, int delimiterStart
                 && messagePattern.charAt(delimiterStartIndex - 2) == ESCAPE_CHAR;
     }
 
-    private static void deeplyAppendParameter(StringBuilder builder, Object o, Map<Object[], Object> seenMap) {
+    private static void deeplyAppendParameter(StringBuilder builder,
+                                              Object o,
+                                              Map<Object[], Object> seenMap,
+                                              ObjectRenderers renderers) {
         if (o == null) {
             builder.append("null");
         } else {
             if (!o.getClass().isArray()) {
-                objectAppendSafe(builder, o);
+                objectAppendSafe(builder, o, renderers);
                 return;
             }
 
@@ -198,30 +414,35 @@ private static void deeplyAppendParameter(StringBuilder builder, Object o, Map<O
             } else if (o instanceof double[]) {
                 doubleArrayAppend(builder, (double[]) o);
             } else {
-                objectArrayAppend(builder, (Object[]) o, seenMap);
+                objectArrayAppend(builder, (Object[]) o, seenMap, renderers);
             }
             builder.append(']');
         }
     }
 
-    private static void objectAppendSafe(StringBuilder builder, Object o) {
+    private static void objectAppendSafe(StringBuilder builder, Object o, ObjectRenderers renderers) {
+        final int start = builder.length();
         try {
             if (o instanceof Supplier) {
                 final Object supplied = ((Supplier<?>) o).get();
-                builder.append(supplied);
+                renderers.render(builder, supplied);
             } else if (o instanceof Callable) {
                 final Object called = ((Callable<?>) o).call();
-                builder.append(called);
+                renderers.render(builder, called);
             } else {
-                builder.append(o);
+                renderers.render(builder, o);
             }
         } catch (Throwable throwable) {
+            builder.setLength(start);
             Util.report("SLF4J: Failed toString() invocation on an object of type [" + o.getClass().getName() + "]", throwable);
             builder.append("[FAILED toString()]");
         }
     }
 
-    private static void objectArrayAppend(StringBuilder sbuf, Object[] a, Map<Object[], Object> seenMapPrev) {
+    private static void objectArrayAppend(StringBuilder sbuf,
+                                          Object[] a,
+                                          Map<Object[], Object> seenMapPrev,
+                                          ObjectRenderers renderers) {
         Map<Object[], Object> seenMap = (seenMapPrev == null)
                 ? new HashMap<>(a.length + 3)
                 : seenMapPrev;
@@ -231,7 +452,7 @@ private static void objectArrayAppend(StringBuilder sbuf, Object[] a, Map<Object
 
             final int len = a.length;
             for (int i = 0; i < len; ++i) {
-                deeplyAppendParameter(sbuf, a[i], seenMap);
+                deeplyAppendParameter(sbuf, a[i], seenMap, renderers);
                 if (i != len - 1) {
                     sbuf.append(", ");
                 }
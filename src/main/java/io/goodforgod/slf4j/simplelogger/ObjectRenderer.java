@@ -0,0 +1,39 @@
+package io.goodforgod.slf4j.simplelogger;
+
+/**
+ * Renders logged arguments of specific type directly into event output, so arguments are not converted
+ * into String with {@link Object#toString()} before being appended.
+ * <p>
+ * Renderers are loaded with {@link java.util.ServiceLoader}, so implementation should be registered in
+ * {@code META-INF/services/io.goodforgod.slf4j.simplelogger.ObjectRenderer} or provided in module-info.
+ * Renderer is used for subtypes of {@link #type()} unless subtype has renderer of its own, user
+ * renderers take precedence over built-in renderers.
+ *
+ * @param <T> type of argument to render
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public interface ObjectRenderer<T> {
+
+    /**
+     * @return type of arguments this renderer renders
+     */
+    Class<T> type();
+
+    /**
+     * @param value   to render, never null
+     * @param builder to render value into
+     */
+    void render(T value, StringBuilder builder);
+
+    /**
+     * Value is rendered inside JSON message string and is escaped after rendering, so renderer can render
+     * value as JSON text (like maps are rendered as JSON objects).
+     *
+     * @param value   to render, never null
+     * @param builder to render value into
+     */
+    default void renderJson(T value, StringBuilder builder) {
+        render(value, builder);
+    }
+}
@@ -0,0 +1,534 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.helpers.Util;
+
+/**
+ * Registry of {@link ObjectRenderer} resolved per argument class, built-in renderer implementations
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class ObjectRenderers {
+
+    private static final ObjectRenderer<Object> DEFAULT_RENDERER = new DefaultRenderer();
+    private static final List<ObjectRenderer<?>> LOADED_RENDERERS = loadRenderers();
+
+    static final ObjectRenderers TEXT = new ObjectRenderers(false, LOADED_RENDERERS);
+    static final ObjectRenderers JSON = new ObjectRenderers(true, LOADED_RENDERERS);
+
+    private final boolean json;
+    private final Map<Class<?>, ObjectRenderer<?>> renderers = new LinkedHashMap<>();
+    private final ClassValue<ObjectRenderer<Object>> resolved = new ClassValue<>() {
+
+        @Override
+        protected ObjectRenderer<Object> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * @param json      true if arguments are rendered inside JSON message
+     * @param renderers user renderers that take precedence over built-in renderers
+     */
+    ObjectRenderers(boolean json, List<ObjectRenderer<?>> renderers) {
+        this.json = json;
+        for (ObjectRenderer<?> renderer : renderers) {
+            this.renderers.putIfAbsent(renderer.type(), renderer);
+        }
+
+        final List<ObjectRenderer<?>> builtIn = List.of(new CharSequenceRenderer(), new IntegerRenderer(), new LongRenderer(),
+                new DoubleRenderer(), new BooleanRenderer(), new UUIDRenderer(), new InstantRenderer(), new DurationRenderer(),
+                new MapRenderer(this), new CollectionRenderer(this));
+        for (ObjectRenderer<?> renderer : builtIn) {
+            this.renderers.putIfAbsent(renderer.type(), renderer);
+        }
+    }
+
+    /**
+     * @return true if arguments are rendered inside JSON message
+     */
+    boolean isJson() {
+        return json;
+    }
+
+    /**
+     * @param builder to render into
+     * @param value   to render with renderer of output format
+     */
+    void render(StringBuilder builder, Object value) {
+        if (json) {
+            renderJson(builder, value);
+        } else {
+            renderText(builder, value);
+        }
+    }
+
+    void renderText(StringBuilder builder, Object value) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof String) {
+            builder.append((String) value);
+        } else {
+            resolved.get(value.getClass()).render(value, builder);
+        }
+    }
+
+    void renderJson(StringBuilder builder, Object value) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof String) {
+            builder.append((String) value);
+        } else {
+            resolved.get(value.getClass()).renderJson(value, builder);
+        }
+    }
+
+    /**
+     * Renders value as JSON value, numbers and booleans as is, maps and collections as JSON structures
+     * and everything else as JSON string
+     *
+     * @param builder to render into
+     * @param value   to render
+     */
+    void renderJsonValue(StringBuilder builder, Object value) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof RenderedJson) {
+            builder.append(value);
+        } else if (value instanceof Boolean || isJsonNumber(value)) {
+            renderText(builder, value);
+        } else if ((value instanceof Map || value instanceof Collection) && resolved.get(value.getClass()) != DEFAULT_RENDERER) {
+            renderJson(builder, value);
+        } else {
+            builder.append('"');
+            final int valueStart = builder.length();
+            renderText(builder, value);
+            JsonLoggerLayouts.escape(builder, valueStart);
+            builder.append('"');
+        }
+    }
+
+    /**
+     * Only JDK numbers are known to print valid JSON number, other numbers are rendered as JSON string
+     */
+    private static boolean isJsonNumber(Object value) {
+        if (value instanceof Double) {
+            return Double.isFinite((Double) value);
+        } else if (value instanceof Float) {
+            return Float.isFinite((Float) value);
+        } else {
+            return value instanceof Integer
+                    || value instanceof Long
+                    || value instanceof Short
+                    || value instanceof Byte
+                    || value instanceof BigDecimal
+                    || value instanceof BigInteger
+                    || value instanceof AtomicInteger
+                    || value instanceof AtomicLong;
+        }
+    }
+
+    /**
+     * Built-in map and collection renderers are used only for types with toString of JDK, so types with
+     * toString of their own are printed with it same as without renderers
+     */
+    @SuppressWarnings("unchecked")
+    private ObjectRenderer<Object> resolve(Class<?> type) {
+        final ObjectRenderer<?> renderer = find(type);
+        if ((renderer instanceof MapRenderer || renderer instanceof CollectionRenderer) && !isJdkToString(type)) {
+            return DEFAULT_RENDERER;
+        }
+
+        return (ObjectRenderer<Object>) renderer;
+    }
+
+    private static boolean isJdkToString(Class<?> type) {
+        try {
+            return type.getMethod("toString").getDeclaringClass().getName().startsWith("java.");
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
+    private ObjectRenderer<?> find(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final ObjectRenderer<?> renderer = renderers.get(current);
+            if (renderer != null) {
+                return renderer;
+            }
+        }
+
+        for (ObjectRenderer<?> renderer : renderers.values()) {
+            if (renderer.type().isAssignableFrom(type)) {
+                return renderer;
+            }
+        }
+
+        return DEFAULT_RENDERER;
+    }
+
+    private static List<ObjectRenderer<?>> loadRenderers() {
+        final List<ObjectRenderer<?>> renderers = new ArrayList<>();
+        final Iterator<?> iterator = ServiceLoader.load(ObjectRenderer.class).iterator();
+        while (iterator.hasNext()) {
+            try {
+                renderers.add((ObjectRenderer<?>) iterator.next());
+            } catch (ServiceConfigurationError e) {
+                Util.report("SLF4J: Failed to load ObjectRenderer", e);
+            }
+        }
+
+        return renderers;
+    }
+
+    /**
+     * JSON value rendered in advance, like value captured for deferred formatting, that is appended as
+     * is
+     */
+    static final class RenderedJson {
+
+        private final String json;
+
+        RenderedJson(String json) {
+            this.json = json;
+        }
+
+        @Override
+        public String toString() {
+            return json;
+        }
+    }
+
+    private static final class DefaultRenderer implements ObjectRenderer<Object> {
+
+        @Override
+        public Class<Object> type() {
+            return Object.class;
+        }
+
+        @Override
+        public void render(Object value, StringBuilder builder) {
+            builder.append(value);
+        }
+    }
+
+    static final class CharSequenceRenderer implements ObjectRenderer<CharSequence> {
+
+        @Override
+        public Class<CharSequence> type() {
+            return CharSequence.class;
+        }
+
+        @Override
+        public void render(CharSequence value, StringBuilder builder) {
+            builder.append(value);
+        }
+    }
+
+    static final class IntegerRenderer implements ObjectRenderer<Integer> {
+
+        @Override
+        public Class<Integer> type() {
+            return Integer.class;
+        }
+
+        @Override
+        public void render(Integer value, StringBuilder builder) {
+            builder.append(value.intValue());
+        }
+    }
+
+    static final class LongRenderer implements ObjectRenderer<Long> {
+
+        @Override
+        public Class<Long> type() {
+            return Long.class;
+        }
+
+        @Override
+        public void render(Long value, StringBuilder builder) {
+            builder.append(value.longValue());
+        }
+    }
+
+    static final class DoubleRenderer implements ObjectRenderer<Double> {
+
+        @Override
+        public Class<Double> type() {
+            return Double.class;
+        }
+
+        @Override
+        public void render(Double value, StringBuilder builder) {
+            builder.append(value.doubleValue());
+        }
+    }
+
+    static final class BooleanRenderer implements ObjectRenderer<Boolean> {
+
+        @Override
+        public Class<Boolean> type() {
+            return Boolean.class;
+        }
+
+        @Override
+        public void render(Boolean value, StringBuilder builder) {
+            builder.append(value.booleanValue());
+        }
+    }
+
+    /**
+     * Renders same as {@link UUID#toString()}
+     */
+    static final class UUIDRenderer implements ObjectRenderer<UUID> {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        @Override
+        public Class<UUID> type() {
+            return UUID.class;
+        }
+
+        @Override
+        public void render(UUID value, StringBuilder builder) {
+            final long most = value.getMostSignificantBits();
+            final long least = value.getLeastSignificantBits();
+            appendHex(builder, most >>> 32, 8);
+            builder.append('-');
+            appendHex(builder, most >>> 16, 4);
+            builder.append('-');
+            appendHex(builder, most, 4);
+            builder.append('-');
+            appendHex(builder, least >>> 48, 4);
+            builder.append('-');
+            appendHex(builder, least, 12);
+        }
+
+        private static void appendHex(StringBuilder builder, long value, int digits) {
+            for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+                builder.append(HEX[(int) (value >>> shift) & 0xF]);
+            }
+        }
+    }
+
+    /**
+     * Renders same as {@link Instant#toString()}
+     */
+    static final class InstantRenderer implements ObjectRenderer<Instant> {
+
+        @Override
+        public Class<Instant> type() {
+            return Instant.class;
+        }
+
+        @Override
+        public void render(Instant value, StringBuilder builder) {
+            DateTimeFormatter.ISO_INSTANT.formatTo(value, builder);
+        }
+    }
+
+    /**
+     * Renders same as {@link Duration#toString()}
+     */
+    static final class DurationRenderer implements ObjectRenderer<Duration> {
+
+        private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+        @Override
+        public Class<Duration> type() {
+            return Duration.class;
+        }
+
+        @Override
+        public void render(Duration value, StringBuilder builder) {
+            if (value.isZero()) {
+                builder.append("PT0S");
+                return;
+            }
+
+            final long seconds = value.getSeconds();
+            final int nanos = value.getNano();
+            final long effectiveTotalSecs = (seconds < 0 && nanos > 0)
+                    ? seconds + 1
+                    : seconds;
+
+            final long hours = effectiveTotalSecs / 3600;
+            final int minutes = (int) ((effectiveTotalSecs % 3600) / 60);
+            final int secs = (int) (effectiveTotalSecs % 60);
+
+            final int start = builder.length();
+            builder.append("PT");
+            if (hours != 0) {
+                builder.append(hours).append('H');
+            }
+            if (minutes != 0) {
+                builder.append(minutes).append('M');
+            }
+            if (secs == 0 && nanos == 0 && builder.length() > start + 2) {
+                return;
+            }
+
+            if (seconds < 0 && nanos > 0 && secs == 0) {
+                builder.append("-0");
+            } else {
+                builder.append(secs);
+            }
+
+            if (nanos > 0) {
+                final int fractionStart = builder.length();
+                if (seconds < 0) {
+                    builder.append(2L * NANOS_PER_SECOND - nanos);
+                } else {
+                    builder.append(nanos + NANOS_PER_SECOND);
+                }
+
+                while (builder.charAt(builder.length() - 1) == '0') {
+                    builder.setLength(builder.length() - 1);
+                }
+                builder.setCharAt(fractionStart, '.');
+            }
+
+            builder.append('S');
+        }
+    }
+
+    /**
+     * Renders same as {@link java.util.AbstractMap#toString()} or as JSON object
+     */
+    static final class MapRenderer implements ObjectRenderer<Map<?, ?>> {
+
+        private final ObjectRenderers renderers;
+
+        MapRenderer(ObjectRenderers renderers) {
+            this.renderers = renderers;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Class<Map<?, ?>> type() {
+            return (Class<Map<?, ?>>) (Class<?>) Map.class;
+        }
+
+        @Override
+        public void render(Map<?, ?> value, StringBuilder builder) {
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : value.entrySet()) {
+                if (!first) {
+                    builder.append(", ");
+                }
+                first = false;
+
+                renderElement(builder, value, entry.getKey());
+                builder.append('=');
+                renderElement(builder, value, entry.getValue());
+            }
+            builder.append('}');
+        }
+
+        @Override
+        public void renderJson(Map<?, ?> value, StringBuilder builder) {
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : value.entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+
+                builder.append('"');
+                final int keyStart = builder.length();
+                renderElement(builder, value, entry.getKey());
+                JsonLoggerLayouts.escape(builder, keyStart);
+                builder.append("\":");
+
+                if (entry.getValue() == value) {
+                    builder.append("\"(this Map)\"");
+                } else {
+                    renderers.renderJsonValue(builder, entry.getValue());
+                }
+            }
+            builder.append('}');
+        }
+
+        private void renderElement(StringBuilder builder, Map<?, ?> map, Object element) {
+            if (element == map) {
+                builder.append("(this Map)");
+            } else {
+                renderers.renderText(builder, element);
+            }
+        }
+    }
+
+    /**
+     * Renders same as {@link java.util.AbstractCollection#toString()} or as JSON array
+     */
+    static final class CollectionRenderer implements ObjectRenderer<Collection<?>> {
+
+        private final ObjectRenderers renderers;
+
+        CollectionRenderer(ObjectRenderers renderers) {
+            this.renderers = renderers;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Class<Collection<?>> type() {
+            return (Class<Collection<?>>) (Class<?>) Collection.class;
+        }
+
+        @Override
+        public void render(Collection<?> value, StringBuilder builder) {
+            builder.append('[');
+            boolean first = true;
+            for (Object element : value) {
+                if (!first) {
+                    builder.append(", ");
+                }
+                first = false;
+
+                if (element == value) {
+                    builder.append("(this Collection)");
+                } else {
+                    renderers.renderText(builder, element);
+                }
+            }
+            builder.append(']');
+        }
+
+        @Override
+        public void renderJson(Collection<?> value, StringBuilder builder) {
+            builder.append('[');
+            boolean first = true;
+            for (Object element : value) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+
+                if (element == value) {
+                    builder.append("\"(this Collection)\"");
+                } else {
+                    renderers.renderJsonValue(builder, element);
+                }
+            }
+            builder.append(']');
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.event.Level;
+
+/**
+ * Lock-free token bucket that allows burst of events per second and refills continuously, bucket is
+ * kept as single theoretical arrival time of next event (GCRA), so event is accepted with single CAS.
+ * Rejected events are counted, so logger reports them with summary at most once per
+ * {@link #SUMMARY_INTERVAL_NANOS} when events are accepted again, or when
+ * {@link #SUMMARY_INTERVAL_NANOS} passes after first rejected event if logger gets quiet.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class RateLimiter {
+
+    static final long SUMMARY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int eventsPerSecond;
+    /**
+     * Time it takes to refill single token
+     */
+    private final long emissionIntervalNanos;
+    /**
+     * How far theoretical arrival time can be ahead of current time, which is the burst size
+     */
+    private final long burstToleranceNanos;
+
+    private final AtomicLong theoreticalArrival;
+    private final AtomicLong nextSummary;
+    private final AtomicLong suppressed = new AtomicLong();
+    /**
+     * Most severe level of events suppressed since previous summary, summary is logged with it when logger
+     * gets quiet
+     */
+    private volatile Level suppressedLevel = Level.TRACE;
+
+    /**
+     * @param eventsPerSecond events allowed per second, bucket is full on start
+     */
+    RateLimiter(int eventsPerSecond) {
+        this.eventsPerSecond = eventsPerSecond;
+        this.emissionIntervalNanos = Math.max(1, TimeUnit.SECONDS.toNanos(1) / eventsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (eventsPerSecond - 1);
+
+        final long now = System.nanoTime();
+        this.theoreticalArrival = new AtomicLong(now);
+        this.nextSummary = new AtomicLong(now);
+    }
+
+    int getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    /**
+     * @return true if event is allowed, otherwise it should be counted with {@link #suppress(Level)}
+     */
+    boolean tryAcquire() {
+        final long now = System.nanoTime();
+        while (true) {
+            final long arrival = theoreticalArrival.get();
+            final long start = (arrival - now > 0)
+                    ? arrival
+                    : now;
+
+            if (start - now > burstToleranceNanos) {
+                return false;
+            }
+
+            if (theoreticalArrival.compareAndSet(arrival, start + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Counts rejected event, summary of the first event suppressed after previous summary should be
+     * scheduled with {@link #scheduleSummary(Runnable)}
+     *
+     * @param level of rejected event
+     * @return true if event is the first one suppressed after previous summary
+     */
+    boolean suppress(Level level) {
+        if (level.toInt() > suppressedLevel.toInt()) {
+            suppressedLevel = level;
+        }
+
+        return suppressed.incrementAndGet() == 1;
+    }
+
+    /**
+     * @return most severe level of events suppressed since previous summary
+     */
+    Level getSuppressedLevel() {
+        return suppressedLevel;
+    }
+
+    /**
+     * Summary runs after {@link #SUMMARY_INTERVAL_NANOS}, so it is not earlier than next summary allowed
+     * by {@link #pollSuppressed()} for events that were suppressed after previous summary
+     *
+     * @param summary to log suppressed events summary if they were not reported by allowed event yet
+     */
+    static void scheduleSummary(Runnable summary) {
+        SummaryScheduler.EXECUTOR.schedule(summary, SUMMARY_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Single daemon thread that reports suppressed events of loggers that got quiet, created on first
+     * suppressed event
+     */
+    private static final class SummaryScheduler {
+
+        private static final ScheduledThreadPoolExecutor EXECUTOR = new ScheduledThreadPoolExecutor(1, r -> {
+            final Thread thread = new Thread(r, "simple-logger-rate-limit-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return number of suppressed events to report and resets it, or 0 when there is nothing to report
+     *             or summary was reported less than {@link #SUMMARY_INTERVAL_NANOS} ago
+     */
+    long pollSuppressed() {
+        if (suppressed.get() == 0) {
+            return 0;
+        }
+
+        final long now = System.nanoTime();
+        final long next = nextSummary.get();
+        if (now - next < 0 || !nextSummary.compareAndSet(next, now + SUMMARY_INTERVAL_NANOS)) {
+            return 0;
+        }
+
+        suppressedLevel = Level.TRACE;
+        return suppressed.getAndSet(0);
+    }
+}
@@ -1,14 +1,14 @@
 package io.goodforgod.slf4j.simplelogger;
 
-import static io.goodforgod.slf4j.simplelogger.SimpleLoggerProperties.PREFIX_LOG;
-
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
 import org.slf4j.event.Level;
 import org.slf4j.event.LoggingEvent;
-import org.slf4j.helpers.FormattingTuple;
 import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
 
 /**
  * <p>
@@ -57,6 +57,8 @@
  * abbreviate if it exceeds length. Abbreviation happened to full logger name:
  * io.goodforgod.internal.logger.example.Application -> i.g.i.logger.example.Application (default
  * null)</li>
+ * <li><code>org.slf4j.simpleLogger.showMDC</code> - Set to <code>true</code> if you want MDC context
+ * values to be included in output messages when context is not empty. Default is <code>true</code></li>
  * <li><code>org.slf4j.simpleLogger.showDateTime</code> - Set to <code>true</code> if you want the
  * current date and time to be included in output messages. Default is <code>false</code></li>
  * <li><code>org.slf4j.simpleLogger.dateTimeFormat</code> - The date and time format to be used in
@@ -105,6 +107,13 @@
  * 2022-02-23T15:43:40.338 [INFO] [main]  examples.Sort - Exiting main method.
  * </pre>
  * <p>
+ * When logger is used as {@link SimpleLogger} directly, {@code long} and {@code double} arguments
+ * can be passed without boxing, e.g. {@code logger.info("Request took {} ms", elapsed)}, and
+ * {@code int}, {@code short} and {@code byte} are widened to {@code long} and printed same as boxed.
+ * {@code char} and {@code float} have own overloads that box them, as widening would print
+ * {@code char} as its numeric code and {@code float} with {@code double} precision.
+ * </p>
+ * <p>
  * This implementation is heavily inspired by
  * <a href="https://www.slf4j.org/api/org/slf4j/impl/SimpleLogger.html">SLF4J simple logger</a>.
  * </p>
@@ -142,10 +151,9 @@ static void init() {
     }
 
     /**
-     * The current log level
+     * The current log level, volatile so level changes are visible to all threads
      */
-    int currentLogLevel;
-    final int originalLogLevel;
+    volatile int currentLogLevel;
 
     /**
      * The short name of this simple log instance
@@ -153,6 +161,13 @@ static void init() {
     final String logNameShort;
     final String logName;
 
+    /**
+     * Rate limiter of this logger or null when logger is not limited, recomputed when configuration
+     * snapshot changes
+     */
+    private volatile RateLimiter rateLimiter;
+    private volatile SimpleLoggerConfiguration.Snapshot rateLimitSnapshot;
+
     /**
      * Package access allows only {@link SimpleLoggerFactory} to instantiate SimpleLogger instances.
      */
@@ -161,31 +176,19 @@ static void init() {
         this.logNameShort = name.substring(name.lastIndexOf('.') + 1);
         this.logName = CONFIG.computeLogName(name);
         computeCurrentLogLevel();
-        this.originalLogLevel = this.currentLogLevel;
     }
 
     void setCurrentLogLevel(String logLevel) {
-        this.currentLogLevel = SimpleLoggerConfiguration.tryStringToLevel(logLevel)
-                .orElse(this.currentLogLevel);
+        setCurrentLogLevel(SimpleLoggerConfiguration.tryStringToLevel(logLevel)
+                .orElse(this.currentLogLevel));
     }
 
-    void computeCurrentLogLevel() {
-        final String levelString = recursivelyComputeLevelString();
-        this.currentLogLevel = (levelString != null)
-                ? SimpleLoggerConfiguration.tryStringToLevel(levelString).orElse(Level.INFO.toInt())
-                : CONFIG.getDefaultLogLevel();
+    void setCurrentLogLevel(int logLevel) {
+        LogLevelGuard.setLevel(this, logLevel);
     }
 
-    private String recursivelyComputeLevelString() {
-        String tempName = name;
-        String levelString = null;
-        int indexOfLastDot = tempName.length();
-        while ((levelString == null) && (indexOfLastDot > -1)) {
-            tempName = tempName.substring(0, indexOfLastDot);
-            levelString = CONFIG.getStringProperty(PREFIX_LOG + tempName);
-            indexOfLastDot = tempName.lastIndexOf('.');
-        }
-        return levelString;
+    void computeCurrentLogLevel() {
+        setCurrentLogLevel(CONFIG.getLogLevel(name));
     }
 
     private void log(Level level, String message, Throwable throwable) {
@@ -200,11 +203,37 @@ private void log(Level level, String message, Throwable throwable) {
      * @param throwable The exception whose stack trace should be logged
      */
     private void log(Level level, String message, Marker marker, Throwable throwable) {
-        final SimpleLoggingEvent event = (CONFIG.isShowShortLogName())
+        log(createEvent(level, message, marker, throwable));
+    }
+
+    SimpleLoggingEvent createEvent(Level level, String message, Marker marker, Throwable throwable) {
+        final SimpleLoggerConfiguration.Snapshot snapshot = CONFIG.snapshot();
+        final SimpleLoggingEvent event = (snapshot.isShowShortLogName())
                 ? new SimpleLoggingEvent(logNameShort, level, message, marker, throwable)
                 : new SimpleLoggingEvent(logName, level, message, marker, throwable);
 
-        final List<Layout> layouts = CONFIG.getLayouts();
+        if (snapshot.isShowMDC()) {
+            event.setContext(SimpleMDCAdapter.getContext());
+        }
+
+        return event;
+    }
+
+    void log(SimpleLoggingEvent event) {
+        final DeferredEventQueue deferredEventQueue = CONFIG.getDeferredEventQueue();
+        if (deferredEventQueue == null) {
+            write(event);
+        } else {
+            deferredEventQueue.add(event);
+        }
+    }
+
+    /**
+     * Prints event with layouts and writes it, called by logging thread or in background for deferred
+     * formatting
+     */
+    static void write(SimpleLoggingEvent event) {
+        final List<Layout> layouts = CONFIG.snapshot().getLayouts();
         for (Layout layout : layouts) {
             layout.print(event);
         }
@@ -214,23 +243,24 @@ private void log(Level level, String message, Marker marker, Throwable throwable
     }
 
     /**
-     * For formatted messages, first substitute arguments and then log.
+     * For formatted messages, arguments are substituted when message is printed into event.
      *
      * @param level  to log
      * @param format to parse message
      * @param arg1   to format
      */
     private void formatAndLog(Level level, String format, Object arg1) {
-        if (!isLevelEnabled(level)) {
+        if (!isLoggable(level)) {
             return;
         }
 
-        final FormattingTuple tp = MessageFormatter.format(format, arg1);
-        log(level, tp.getMessage(), null);
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        log(event);
     }
 
     /**
-     * For formatted messages, first substitute arguments and then log.
+     * For formatted messages, arguments are substituted when message is printed into event.
      *
      * @param level  to log
      * @param format to parse message
@@ -238,39 +268,337 @@ private void formatAndLog(Level level, String format, Object arg1) {
      * @param arg2   to format
      */
     private void formatAndLog(Level level, String format, Object arg1, Object arg2) {
-        if (!isLevelEnabled(level)) {
+        if (!isLoggable(level)) {
             return;
         }
 
-        final FormattingTuple tp = MessageFormatter.format(format, arg1, arg2);
-        log(level, tp.getMessage(), null);
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
     }
 
     /**
-     * For formatted messages, first substitute arguments and then log.
+     * For formatted messages, arguments are substituted when message is printed into event.
      *
      * @param level     to log
      * @param format    to parse message
      * @param arguments a list of 3 ore more arguments
      */
     private void formatAndLog(Level level, String format, Object... arguments) {
-        if (!isLevelEnabled(level)) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final Throwable throwable = MessageFormatter.getThrowableCandidate(arguments);
+        final SimpleLoggingEvent event = createEvent(level, format, null, throwable);
+        if (arguments != null) {
+            // throwable candidate is excluded from arguments by count without array copy
+            event.setArguments(arguments, (throwable == null)
+                    ? arguments.length
+                    : arguments.length - 1);
+        }
+
+        log(event);
+    }
+
+    /**
+     * Primitive argument is kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     */
+    private void formatAndLog(Level level, String format, long arg1) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        log(event);
+    }
+
+    /**
+     * Primitive argument is kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     */
+    private void formatAndLog(Level level, String format, double arg1) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        log(event);
+    }
+
+    /**
+     * Primitive arguments are kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     * @param arg2   to format
+     */
+    private void formatAndLog(Level level, String format, long arg1, long arg2) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
+    }
+
+    /**
+     * Primitive arguments are kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     * @param arg2   to format
+     */
+    private void formatAndLog(Level level, String format, long arg1, double arg2) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
+    }
+
+    /**
+     * Primitive arguments are kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     * @param arg2   to format
+     */
+    private void formatAndLog(Level level, String format, double arg1, long arg2) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
+    }
+
+    /**
+     * Primitive arguments are kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     * @param arg2   to format
+     */
+    private void formatAndLog(Level level, String format, double arg1, double arg2) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
+    }
+
+    /**
+     * Primitive arguments are kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     * @param arg2   to format
+     */
+    private void formatAndLog(Level level, String format, Object arg1, long arg2) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
+    }
+
+    /**
+     * Primitive arguments are kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     * @param arg2   to format
+     */
+    private void formatAndLog(Level level, String format, long arg1, Object arg2) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
+    }
+
+    /**
+     * Primitive arguments are kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     * @param arg2   to format
+     */
+    private void formatAndLog(Level level, String format, Object arg1, double arg2) {
+        if (!isLoggable(level)) {
             return;
         }
 
-        final FormattingTuple tp = MessageFormatter.formatArray(format, arguments);
-        log(level, tp.getMessage(), tp.getThrowable());
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
+    }
+
+    /**
+     * Primitive arguments are kept unboxed in event and appended when message is printed into event.
+     *
+     * @param level  to log
+     * @param format to parse message
+     * @param arg1   to format
+     * @param arg2   to format
+     */
+    private void formatAndLog(Level level, String format, double arg1, Object arg2) {
+        if (!isLoggable(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, null, null);
+        event.setArgument(0, arg1);
+        event.setArgument(1, arg2);
+        log(event);
+    }
+
+    private void formatAndLog(Level level, Marker marker, String format, Object[] arguments, Throwable throwable) {
+        if (!isRateAllowed(level)) {
+            return;
+        }
+
+        final SimpleLoggingEvent event = createEvent(level, format, marker, throwable);
+        if (arguments != null) {
+            event.setArguments(arguments, arguments.length);
+        }
+
+        log(event);
     }
 
     /**
      * Is the given log level currently enabled?
-     * log level are numerically ordered so can use simple numeric comparison
+     * log level are numerically ordered so can use simple numeric comparison, {@link LogLevelGuard} is
+     * constant for JIT so levels disabled everywhere are rejected without reading logger level and
+     * {@link ThreadLogLevel} is consulted only for levels that are disabled for logger
      *
      * @param logLevel is this level enabled?
      * @return true if enabled
      */
     private boolean isLevelEnabled(Level logLevel) {
-        return (logLevel.toInt() >= currentLogLevel);
+        final int level = LogLevelGuard.toInt(logLevel);
+        return LogLevelGuard.isEnabledAnywhere(level)
+                && ((level >= currentLogLevel) || ThreadLogLevel.isEnabled(level));
+    }
+
+    /**
+     * @param level to log
+     * @return true if level is enabled and event is not suppressed by rate limit
+     */
+    private boolean isLoggable(Level level) {
+        return isLevelEnabled(level) && isRateAllowed(level);
+    }
+
+    /**
+     * Events suppressed by rate limit are reported with summary event of the same level before the next
+     * allowed event, at most once per {@link RateLimiter#SUMMARY_INTERVAL_NANOS}, when there is no allowed
+     * event summary is logged with most severe suppressed level after that interval
+     *
+     * @param level to log summary with
+     * @return true if logger is not limited or event is within rate limit
+     */
+    private boolean isRateAllowed(Level level) {
+        final RateLimiter limiter = getRateLimiter();
+        if (limiter == null) {
+            return true;
+        }
+
+        if (!limiter.tryAcquire()) {
+            if (limiter.suppress(level)) {
+                RateLimiter.scheduleSummary(() -> logSuppressed(limiter, limiter.getSuppressedLevel()));
+            }
+            return false;
+        }
+
+        logSuppressed(limiter, level);
+        return true;
+    }
+
+    private void logSuppressed(RateLimiter limiter, Level level) {
+        final long suppressed = limiter.pollSuppressed();
+        if (suppressed > 0) {
+            final SimpleLoggingEvent event = createEvent(level,
+                    "Suppressed {} events exceeding rate limit of {} events per second", null, null);
+            event.setArgument(0, suppressed);
+            event.setArgument(1, limiter.getEventsPerSecond());
+            log(event);
+        }
+    }
+
+    private RateLimiter getRateLimiter() {
+        final SimpleLoggerConfiguration.Snapshot snapshot = CONFIG.snapshot();
+        if (snapshot == rateLimitSnapshot) {
+            return rateLimiter;
+        }
+
+        final int rateLimit = snapshot.getRateLimit(name);
+        final RateLimiter current = rateLimiter;
+        final RateLimiter limiter;
+        if (rateLimit <= 0) {
+            limiter = null;
+        } else if (current != null && current.getEventsPerSecond() == rateLimit) {
+            limiter = current;
+        } else {
+            limiter = new RateLimiter(rateLimit);
+        }
+
+        this.rateLimiter = limiter;
+        this.rateLimitSnapshot = snapshot;
+        return limiter;
+    }
+
+    @Override
+    public boolean isEnabledForLevel(Level level) {
+        return isLevelEnabled(level);
+    }
+
+    /**
+     * Fluent API builds {@link SimpleLoggingEvent} directly with builder reused per thread, disabled levels
+     * get {@link org.slf4j.spi.NOPLoggingEventBuilder} from {@link #atLevel(Level)} and events suppressed
+     * by rate limit get it here
+     */
+    @Override
+    public LoggingEventBuilder makeLoggingEventBuilder(Level level) {
+        if (!isRateAllowed(level)) {
+            return NOPLoggingEventBuilder.singleton();
+        }
+
+        return SimpleLoggingEventBuilder.get(this, level);
     }
 
     @Override
@@ -284,8 +612,7 @@ protected void handleNormalizedLoggingCall(Level level,
                                                String messagePattern,
                                                Object[] arguments,
                                                Throwable throwable) {
-        final FormattingTuple tp = MessageFormatter.formatArray(messagePattern, arguments);
-        log(level, tp.getMessage(), marker, throwable);
+        formatAndLog(level, marker, messagePattern, arguments, throwable);
     }
 
     /**
@@ -300,7 +627,7 @@ public boolean isTraceEnabled() {
      * above.
      */
     public void trace(String msg) {
-        if (!isLevelEnabled(Level.TRACE)) {
+        if (!isLoggable(Level.TRACE)) {
             return;
         }
 
@@ -335,7 +662,7 @@ public void trace(String format, Object... argArray) {
      * Log a message of level TRACE, including an exception.
      */
     public void trace(String msg, Throwable throwable) {
-        if (!isLevelEnabled(Level.TRACE)) {
+        if (!isLoggable(Level.TRACE)) {
             return;
         }
 
@@ -343,166 +670,950 @@ public void trace(String msg, Throwable throwable) {
     }
 
     /**
-     * Are {@code debug} messages currently enabled?
+     * Same as {@link #trace(String, Object)} without boxing of primitive arguments
      */
-    public boolean isDebugEnabled() {
-        return isLevelEnabled(Level.DEBUG);
+    public void trace(String format, long arg) {
+        formatAndLog(Level.TRACE, format, arg);
     }
 
     /**
-     * A simple implementation which logs messages of level DEBUG according to the format outlined
-     * above.
+     * Same as {@link #trace(String, Object)} without boxing of primitive arguments
      */
-    public void debug(String msg) {
-        if (!isLevelEnabled(Level.DEBUG)) {
-            return;
-        }
-
-        log(Level.DEBUG, msg, null);
+    public void trace(String format, double arg) {
+        formatAndLog(Level.TRACE, format, arg);
     }
 
     /**
-     * Perform single parameter substitution before logging the message of level DEBUG according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object, Object)} without boxing of primitive arguments
      */
-    public void debug(String format, Object param1) {
-        formatAndLog(Level.DEBUG, format, param1);
+    public void trace(String format, long arg1, long arg2) {
+        formatAndLog(Level.TRACE, format, arg1, arg2);
     }
 
     /**
-     * Perform double parameter substitution before logging the message of level DEBUG according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object, Object)} without boxing of primitive arguments
      */
-    public void debug(String format, Object param1, Object param2) {
-        formatAndLog(Level.DEBUG, format, param1, param2);
+    public void trace(String format, long arg1, double arg2) {
+        formatAndLog(Level.TRACE, format, arg1, arg2);
     }
 
     /**
-     * Perform double parameter substitution before logging the message of level DEBUG according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object, Object)} without boxing of primitive arguments
      */
-    public void debug(String format, Object... argArray) {
-        formatAndLog(Level.DEBUG, format, argArray);
+    public void trace(String format, double arg1, long arg2) {
+        formatAndLog(Level.TRACE, format, arg1, arg2);
     }
 
     /**
-     * Log a message of level DEBUG, including an exception.
+     * Same as {@link #trace(String, Object, Object)} without boxing of primitive arguments
      */
-    public void debug(String msg, Throwable throwable) {
-        if (!isLevelEnabled(Level.DEBUG)) {
-            return;
-        }
-
-        log(Level.DEBUG, msg, throwable);
+    public void trace(String format, double arg1, double arg2) {
+        formatAndLog(Level.TRACE, format, arg1, arg2);
     }
 
     /**
-     * Are {@code info} messages currently enabled?
+     * Same as {@link #trace(String, Object, Object)} without boxing of primitive arguments
      */
-    public boolean isInfoEnabled() {
-        return isLevelEnabled(Level.INFO);
+    public void trace(String format, Object arg1, long arg2) {
+        formatAndLog(Level.TRACE, format, arg1, arg2);
     }
 
     /**
-     * A simple implementation which logs messages of level INFO according to the format outlined above.
+     * Same as {@link #trace(String, Object, Object)} without boxing of primitive arguments
      */
-    public void info(String msg) {
-        if (!isLevelEnabled(Level.INFO)) {
-            return;
-        }
-
-        log(Level.INFO, msg, null);
+    public void trace(String format, long arg1, Object arg2) {
+        formatAndLog(Level.TRACE, format, arg1, arg2);
     }
 
     /**
-     * Perform single parameter substitution before logging the message of level INFO according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object, Object)} without boxing of primitive arguments
      */
-    public void info(String format, Object arg) {
-        formatAndLog(Level.INFO, format, arg);
+    public void trace(String format, Object arg1, double arg2) {
+        formatAndLog(Level.TRACE, format, arg1, arg2);
     }
 
     /**
-     * Perform double parameter substitution before logging the message of level INFO according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object, Object)} without boxing of primitive arguments
      */
-    public void info(String format, Object arg1, Object arg2) {
-        formatAndLog(Level.INFO, format, arg1, arg2);
+    public void trace(String format, double arg1, Object arg2) {
+        formatAndLog(Level.TRACE, format, arg1, arg2);
     }
 
     /**
-     * Perform double parameter substitution before logging the message of level INFO according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object)} with {@code char} argument printed as boxed
      */
-    public void info(String format, Object... argArray) {
-        formatAndLog(Level.INFO, format, argArray);
+    public void trace(String format, char arg) {
+        formatAndLog(Level.TRACE, format, Character.valueOf(arg));
     }
 
     /**
-     * Log a message of level INFO, including an exception.
+     * Same as {@link #trace(String, Object)} with {@code float} argument printed as boxed
      */
-    public void info(String msg, Throwable throwable) {
-        if (!isLevelEnabled(Level.INFO)) {
-            return;
-        }
-
-        log(Level.INFO, msg, throwable);
+    public void trace(String format, float arg) {
+        formatAndLog(Level.TRACE, format, Float.valueOf(arg));
     }
 
     /**
-     * Are {@code warn} messages currently enabled?
+     * Same as {@link #trace(String, Object, Object)} with {@code char} argument printed as boxed
      */
-    public boolean isWarnEnabled() {
-        return isLevelEnabled(Level.WARN);
+    public void trace(String format, long arg1, char arg2) {
+        formatAndLog(Level.TRACE, format, arg1, Character.valueOf(arg2));
     }
 
     /**
-     * A simple implementation which always logs messages of level WARN according to the format outlined
-     * above.
+     * Same as {@link #trace(String, Object, Object)} with {@code float} argument printed as boxed
      */
-    public void warn(String msg) {
-        if (!isLevelEnabled(Level.WARN)) {
-            return;
-        }
-
-        log(Level.WARN, msg, null);
+    public void trace(String format, long arg1, float arg2) {
+        formatAndLog(Level.TRACE, format, arg1, Float.valueOf(arg2));
     }
 
     /**
-     * Perform single parameter substitution before logging the message of level WARN according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object, Object)} with {@code char} argument printed as boxed
      */
-    public void warn(String format, Object arg) {
-        formatAndLog(Level.WARN, format, arg);
+    public void trace(String format, double arg1, char arg2) {
+        formatAndLog(Level.TRACE, format, arg1, Character.valueOf(arg2));
     }
 
     /**
-     * Perform double parameter substitution before logging the message of level WARN according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object, Object)} with {@code float} argument printed as boxed
      */
-    public void warn(String format, Object arg1, Object arg2) {
-        formatAndLog(Level.WARN, format, arg1, arg2);
+    public void trace(String format, double arg1, float arg2) {
+        formatAndLog(Level.TRACE, format, arg1, Float.valueOf(arg2));
     }
 
     /**
-     * Perform double parameter substitution before logging the message of level WARN according to the
-     * format outlined above.
+     * Same as {@link #trace(String, Object, Object)} with {@code char} argument printed as boxed
      */
-    public void warn(String format, Object... argArray) {
-        formatAndLog(Level.WARN, format, argArray);
+    public void trace(String format, Object arg1, char arg2) {
+        formatAndLog(Level.TRACE, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void trace(String format, Object arg1, float arg2) {
+        formatAndLog(Level.TRACE, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void trace(String format, char arg1, long arg2) {
+        formatAndLog(Level.TRACE, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void trace(String format, char arg1, double arg2) {
+        formatAndLog(Level.TRACE, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void trace(String format, char arg1, Object arg2) {
+        formatAndLog(Level.TRACE, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code char} arguments printed as boxed
+     */
+    public void trace(String format, char arg1, char arg2) {
+        formatAndLog(Level.TRACE, format, Character.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void trace(String format, char arg1, float arg2) {
+        formatAndLog(Level.TRACE, format, Character.valueOf(arg1), Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void trace(String format, float arg1, long arg2) {
+        formatAndLog(Level.TRACE, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void trace(String format, float arg1, double arg2) {
+        formatAndLog(Level.TRACE, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void trace(String format, float arg1, Object arg2) {
+        formatAndLog(Level.TRACE, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void trace(String format, float arg1, char arg2) {
+        formatAndLog(Level.TRACE, format, Float.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)} with {@code float} arguments printed as boxed
+     */
+    public void trace(String format, float arg1, float arg2) {
+        formatAndLog(Level.TRACE, format, Float.valueOf(arg1), Float.valueOf(arg2));
+    }
+
+    /**
+     * Are {@code debug} messages currently enabled?
+     */
+    public boolean isDebugEnabled() {
+        return isLevelEnabled(Level.DEBUG);
+    }
+
+    /**
+     * A simple implementation which logs messages of level DEBUG according to the format outlined
+     * above.
+     */
+    public void debug(String msg) {
+        if (!isLoggable(Level.DEBUG)) {
+            return;
+        }
+
+        log(Level.DEBUG, msg, null);
+    }
+
+    /**
+     * Perform single parameter substitution before logging the message of level DEBUG according to the
+     * format outlined above.
+     */
+    public void debug(String format, Object param1) {
+        formatAndLog(Level.DEBUG, format, param1);
+    }
+
+    /**
+     * Perform double parameter substitution before logging the message of level DEBUG according to the
+     * format outlined above.
+     */
+    public void debug(String format, Object param1, Object param2) {
+        formatAndLog(Level.DEBUG, format, param1, param2);
+    }
+
+    /**
+     * Perform double parameter substitution before logging the message of level DEBUG according to the
+     * format outlined above.
+     */
+    public void debug(String format, Object... argArray) {
+        formatAndLog(Level.DEBUG, format, argArray);
+    }
+
+    /**
+     * Log a message of level DEBUG, including an exception.
+     */
+    public void debug(String msg, Throwable throwable) {
+        if (!isLoggable(Level.DEBUG)) {
+            return;
+        }
+
+        log(Level.DEBUG, msg, throwable);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, long arg) {
+        formatAndLog(Level.DEBUG, format, arg);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, double arg) {
+        formatAndLog(Level.DEBUG, format, arg);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, long arg1, long arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, long arg1, double arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, double arg1, long arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, double arg1, double arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, Object arg1, long arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, long arg1, Object arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, Object arg1, double arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void debug(String format, double arg1, Object arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object)} with {@code char} argument printed as boxed
+     */
+    public void debug(String format, char arg) {
+        formatAndLog(Level.DEBUG, format, Character.valueOf(arg));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object)} with {@code float} argument printed as boxed
+     */
+    public void debug(String format, float arg) {
+        formatAndLog(Level.DEBUG, format, Float.valueOf(arg));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void debug(String format, long arg1, char arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void debug(String format, long arg1, float arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void debug(String format, double arg1, char arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void debug(String format, double arg1, float arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void debug(String format, Object arg1, char arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void debug(String format, Object arg1, float arg2) {
+        formatAndLog(Level.DEBUG, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void debug(String format, char arg1, long arg2) {
+        formatAndLog(Level.DEBUG, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void debug(String format, char arg1, double arg2) {
+        formatAndLog(Level.DEBUG, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void debug(String format, char arg1, Object arg2) {
+        formatAndLog(Level.DEBUG, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} arguments printed as boxed
+     */
+    public void debug(String format, char arg1, char arg2) {
+        formatAndLog(Level.DEBUG, format, Character.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void debug(String format, char arg1, float arg2) {
+        formatAndLog(Level.DEBUG, format, Character.valueOf(arg1), Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void debug(String format, float arg1, long arg2) {
+        formatAndLog(Level.DEBUG, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void debug(String format, float arg1, double arg2) {
+        formatAndLog(Level.DEBUG, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void debug(String format, float arg1, Object arg2) {
+        formatAndLog(Level.DEBUG, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void debug(String format, float arg1, char arg2) {
+        formatAndLog(Level.DEBUG, format, Float.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)} with {@code float} arguments printed as boxed
+     */
+    public void debug(String format, float arg1, float arg2) {
+        formatAndLog(Level.DEBUG, format, Float.valueOf(arg1), Float.valueOf(arg2));
+    }
+
+    /**
+     * Are {@code info} messages currently enabled?
+     */
+    public boolean isInfoEnabled() {
+        return isLevelEnabled(Level.INFO);
+    }
+
+    /**
+     * A simple implementation which logs messages of level INFO according to the format outlined above.
+     */
+    public void info(String msg) {
+        if (!isLoggable(Level.INFO)) {
+            return;
+        }
+
+        log(Level.INFO, msg, null);
+    }
+
+    /**
+     * Perform single parameter substitution before logging the message of level INFO according to the
+     * format outlined above.
+     */
+    public void info(String format, Object arg) {
+        formatAndLog(Level.INFO, format, arg);
+    }
+
+    /**
+     * Perform double parameter substitution before logging the message of level INFO according to the
+     * format outlined above.
+     */
+    public void info(String format, Object arg1, Object arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Perform double parameter substitution before logging the message of level INFO according to the
+     * format outlined above.
+     */
+    public void info(String format, Object... argArray) {
+        formatAndLog(Level.INFO, format, argArray);
+    }
+
+    /**
+     * Log a message of level INFO, including an exception.
+     */
+    public void info(String msg, Throwable throwable) {
+        if (!isLoggable(Level.INFO)) {
+            return;
+        }
+
+        log(Level.INFO, msg, throwable);
+    }
+
+    /**
+     * Same as {@link #info(String, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, long arg) {
+        formatAndLog(Level.INFO, format, arg);
+    }
+
+    /**
+     * Same as {@link #info(String, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, double arg) {
+        formatAndLog(Level.INFO, format, arg);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, long arg1, long arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, long arg1, double arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, double arg1, long arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, double arg1, double arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, Object arg1, long arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, long arg1, Object arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, Object arg1, double arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void info(String format, double arg1, Object arg2) {
+        formatAndLog(Level.INFO, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object)} with {@code char} argument printed as boxed
+     */
+    public void info(String format, char arg) {
+        formatAndLog(Level.INFO, format, Character.valueOf(arg));
+    }
+
+    /**
+     * Same as {@link #info(String, Object)} with {@code float} argument printed as boxed
+     */
+    public void info(String format, float arg) {
+        formatAndLog(Level.INFO, format, Float.valueOf(arg));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void info(String format, long arg1, char arg2) {
+        formatAndLog(Level.INFO, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void info(String format, long arg1, float arg2) {
+        formatAndLog(Level.INFO, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void info(String format, double arg1, char arg2) {
+        formatAndLog(Level.INFO, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void info(String format, double arg1, float arg2) {
+        formatAndLog(Level.INFO, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void info(String format, Object arg1, char arg2) {
+        formatAndLog(Level.INFO, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void info(String format, Object arg1, float arg2) {
+        formatAndLog(Level.INFO, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void info(String format, char arg1, long arg2) {
+        formatAndLog(Level.INFO, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void info(String format, char arg1, double arg2) {
+        formatAndLog(Level.INFO, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void info(String format, char arg1, Object arg2) {
+        formatAndLog(Level.INFO, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} arguments printed as boxed
+     */
+    public void info(String format, char arg1, char arg2) {
+        formatAndLog(Level.INFO, format, Character.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void info(String format, char arg1, float arg2) {
+        formatAndLog(Level.INFO, format, Character.valueOf(arg1), Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void info(String format, float arg1, long arg2) {
+        formatAndLog(Level.INFO, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void info(String format, float arg1, double arg2) {
+        formatAndLog(Level.INFO, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void info(String format, float arg1, Object arg2) {
+        formatAndLog(Level.INFO, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void info(String format, float arg1, char arg2) {
+        formatAndLog(Level.INFO, format, Float.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)} with {@code float} arguments printed as boxed
+     */
+    public void info(String format, float arg1, float arg2) {
+        formatAndLog(Level.INFO, format, Float.valueOf(arg1), Float.valueOf(arg2));
+    }
+
+    /**
+     * Are {@code warn} messages currently enabled?
+     */
+    public boolean isWarnEnabled() {
+        return isLevelEnabled(Level.WARN);
+    }
+
+    /**
+     * A simple implementation which always logs messages of level WARN according to the format outlined
+     * above.
+     */
+    public void warn(String msg) {
+        if (!isLoggable(Level.WARN)) {
+            return;
+        }
+
+        log(Level.WARN, msg, null);
+    }
+
+    /**
+     * Perform single parameter substitution before logging the message of level WARN according to the
+     * format outlined above.
+     */
+    public void warn(String format, Object arg) {
+        formatAndLog(Level.WARN, format, arg);
+    }
+
+    /**
+     * Perform double parameter substitution before logging the message of level WARN according to the
+     * format outlined above.
+     */
+    public void warn(String format, Object arg1, Object arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Perform double parameter substitution before logging the message of level WARN according to the
+     * format outlined above.
+     */
+    public void warn(String format, Object... argArray) {
+        formatAndLog(Level.WARN, format, argArray);
     }
 
     /**
      * Log a message of level WARN, including an exception.
      */
     public void warn(String msg, Throwable throwable) {
-        if (!isLevelEnabled(Level.WARN)) {
+        if (!isLoggable(Level.WARN)) {
             return;
         }
 
         log(Level.WARN, msg, throwable);
     }
 
+    /**
+     * Same as {@link #warn(String, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, long arg) {
+        formatAndLog(Level.WARN, format, arg);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, double arg) {
+        formatAndLog(Level.WARN, format, arg);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, long arg1, long arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, long arg1, double arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, double arg1, long arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, double arg1, double arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, Object arg1, long arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, long arg1, Object arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, Object arg1, double arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void warn(String format, double arg1, Object arg2) {
+        formatAndLog(Level.WARN, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object)} with {@code char} argument printed as boxed
+     */
+    public void warn(String format, char arg) {
+        formatAndLog(Level.WARN, format, Character.valueOf(arg));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object)} with {@code float} argument printed as boxed
+     */
+    public void warn(String format, float arg) {
+        formatAndLog(Level.WARN, format, Float.valueOf(arg));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void warn(String format, long arg1, char arg2) {
+        formatAndLog(Level.WARN, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void warn(String format, long arg1, float arg2) {
+        formatAndLog(Level.WARN, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void warn(String format, double arg1, char arg2) {
+        formatAndLog(Level.WARN, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void warn(String format, double arg1, float arg2) {
+        formatAndLog(Level.WARN, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void warn(String format, Object arg1, char arg2) {
+        formatAndLog(Level.WARN, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void warn(String format, Object arg1, float arg2) {
+        formatAndLog(Level.WARN, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void warn(String format, char arg1, long arg2) {
+        formatAndLog(Level.WARN, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void warn(String format, char arg1, double arg2) {
+        formatAndLog(Level.WARN, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void warn(String format, char arg1, Object arg2) {
+        formatAndLog(Level.WARN, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} arguments printed as boxed
+     */
+    public void warn(String format, char arg1, char arg2) {
+        formatAndLog(Level.WARN, format, Character.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void warn(String format, char arg1, float arg2) {
+        formatAndLog(Level.WARN, format, Character.valueOf(arg1), Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void warn(String format, float arg1, long arg2) {
+        formatAndLog(Level.WARN, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void warn(String format, float arg1, double arg2) {
+        formatAndLog(Level.WARN, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void warn(String format, float arg1, Object arg2) {
+        formatAndLog(Level.WARN, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void warn(String format, float arg1, char arg2) {
+        formatAndLog(Level.WARN, format, Float.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)} with {@code float} arguments printed as boxed
+     */
+    public void warn(String format, float arg1, float arg2) {
+        formatAndLog(Level.WARN, format, Float.valueOf(arg1), Float.valueOf(arg2));
+    }
+
     /**
      * Are {@code error} messages currently enabled?
      */
@@ -515,7 +1626,7 @@ public boolean isErrorEnabled() {
      * outlined above.
      */
     public void error(String msg) {
-        if (!isLevelEnabled(Level.ERROR)) {
+        if (!isLoggable(Level.ERROR)) {
             return;
         }
 
@@ -550,20 +1661,237 @@ public void error(String format, Object... argArray) {
      * Log a message of level ERROR, including an exception.
      */
     public void error(String msg, Throwable throwable) {
-        if (!isLevelEnabled(Level.ERROR)) {
+        if (!isLoggable(Level.ERROR)) {
             return;
         }
 
         log(Level.ERROR, msg, throwable);
     }
 
+    /**
+     * Same as {@link #error(String, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, long arg) {
+        formatAndLog(Level.ERROR, format, arg);
+    }
+
+    /**
+     * Same as {@link #error(String, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, double arg) {
+        formatAndLog(Level.ERROR, format, arg);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, long arg1, long arg2) {
+        formatAndLog(Level.ERROR, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, long arg1, double arg2) {
+        formatAndLog(Level.ERROR, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, double arg1, long arg2) {
+        formatAndLog(Level.ERROR, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, double arg1, double arg2) {
+        formatAndLog(Level.ERROR, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, Object arg1, long arg2) {
+        formatAndLog(Level.ERROR, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, long arg1, Object arg2) {
+        formatAndLog(Level.ERROR, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, Object arg1, double arg2) {
+        formatAndLog(Level.ERROR, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} without boxing of primitive arguments
+     */
+    public void error(String format, double arg1, Object arg2) {
+        formatAndLog(Level.ERROR, format, arg1, arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object)} with {@code char} argument printed as boxed
+     */
+    public void error(String format, char arg) {
+        formatAndLog(Level.ERROR, format, Character.valueOf(arg));
+    }
+
+    /**
+     * Same as {@link #error(String, Object)} with {@code float} argument printed as boxed
+     */
+    public void error(String format, float arg) {
+        formatAndLog(Level.ERROR, format, Float.valueOf(arg));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void error(String format, long arg1, char arg2) {
+        formatAndLog(Level.ERROR, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void error(String format, long arg1, float arg2) {
+        formatAndLog(Level.ERROR, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void error(String format, double arg1, char arg2) {
+        formatAndLog(Level.ERROR, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void error(String format, double arg1, float arg2) {
+        formatAndLog(Level.ERROR, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void error(String format, Object arg1, char arg2) {
+        formatAndLog(Level.ERROR, format, arg1, Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void error(String format, Object arg1, float arg2) {
+        formatAndLog(Level.ERROR, format, arg1, Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void error(String format, char arg1, long arg2) {
+        formatAndLog(Level.ERROR, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void error(String format, char arg1, double arg2) {
+        formatAndLog(Level.ERROR, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} argument printed as boxed
+     */
+    public void error(String format, char arg1, Object arg2) {
+        formatAndLog(Level.ERROR, format, Character.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} arguments printed as boxed
+     */
+    public void error(String format, char arg1, char arg2) {
+        formatAndLog(Level.ERROR, format, Character.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void error(String format, char arg1, float arg2) {
+        formatAndLog(Level.ERROR, format, Character.valueOf(arg1), Float.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void error(String format, float arg1, long arg2) {
+        formatAndLog(Level.ERROR, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void error(String format, float arg1, double arg2) {
+        formatAndLog(Level.ERROR, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code float} argument printed as boxed
+     */
+    public void error(String format, float arg1, Object arg2) {
+        formatAndLog(Level.ERROR, format, Float.valueOf(arg1), arg2);
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code char} and {@code float} arguments printed as boxed
+     */
+    public void error(String format, float arg1, char arg2) {
+        formatAndLog(Level.ERROR, format, Float.valueOf(arg1), Character.valueOf(arg2));
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)} with {@code float} arguments printed as boxed
+     */
+    public void error(String format, float arg1, float arg2) {
+        formatAndLog(Level.ERROR, format, Float.valueOf(arg1), Float.valueOf(arg2));
+    }
+
     public void log(LoggingEvent event) {
         final Level levelInt = event.getLevel();
-        if (!isLevelEnabled(levelInt)) {
+        if (!isLoggable(levelInt)) {
             return;
         }
 
-        FormattingTuple tp = MessageFormatter.format(event.getMessage(), event.getArgumentArray());
-        log(levelInt, tp.getMessage(), event.getThrowable());
+        final List<Marker> markers = event.getMarkers();
+        final Marker marker = (markers == null || markers.isEmpty())
+                ? null
+                : markers.get(0);
+
+        final SimpleLoggingEvent simpleEvent = createEvent(levelInt, event.getMessage(), marker, event.getThrowable());
+        final Object[] arguments = event.getArgumentArray();
+        if (arguments != null) {
+            simpleEvent.setArguments(arguments, arguments.length);
+        }
+
+        final List<KeyValuePair> keyValuePairs = event.getKeyValuePairs();
+        if (keyValuePairs != null && !keyValuePairs.isEmpty()) {
+            final String[] keys = new String[keyValuePairs.size()];
+            final Object[] values = new Object[keyValuePairs.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = keyValuePairs.get(i).key;
+                values[i] = keyValuePairs.get(i).value;
+            }
+            simpleEvent.setKeyValues(keys, values, keys.length);
+        }
+
+        log(simpleEvent);
     }
 }
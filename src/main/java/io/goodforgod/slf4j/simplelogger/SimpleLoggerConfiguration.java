@@ -5,6 +5,9 @@
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.LocalDateTime;
@@ -12,7 +15,6 @@
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 import org.slf4j.event.Level;
 import org.slf4j.helpers.Util;
 
@@ -43,52 +45,230 @@ final class SimpleLoggerConfiguration {
     private static final boolean SHOW_THREAD_NAME_DEFAULT = false;
     private static final boolean SHOW_LOG_NAME_DEFAULT = true;
     private static final boolean SHOW_MARKERS_DEFAULT = false;
+    private static final boolean SHOW_MDC_DEFAULT = true;
     private static final boolean SHOW_IMPLEMENTATION_VERSION_DEFAULT = false;
     private static final boolean SHOW_SHORT_LOG_NAME_DEFAULT = false;
     private static final boolean SHOW_DATE_TIME_DEFAULT = true;
 
-    private final Properties properties = new Properties();
+    private static final boolean CONFIGURATION_FILE_WATCH_DEFAULT = false;
+    private static final boolean DEFERRED_FORMATTING_DEFAULT = false;
+    private static final int DEFERRED_FORMATTING_QUEUE_SIZE_DEFAULT = 8192;
+
+    /**
+     * Properties from classpath and external configuration file, replaced as whole on reload
+     */
+    private volatile Properties properties = new Properties();
+
+    /**
+     * GraalVM sets property to "buildtime" while native image is built and to "runtime" in native executable
+     */
+    private static final String IMAGE_CODE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+    /**
+     * Configuration initialized while native image was built is stored in image heap with its parsed
+     * properties, layouts and levels, so native executable starts without initialization, system
+     * properties of build are remembered to detect runtime overrides
+     */
+    private boolean imageBuildTime;
+    private Map<String, String> imageBuildSystemProperties = Collections.emptyMap();
 
     // Non changeable configuration
     private long initializeTime;
+    private Path configurationFile;
+    private boolean configurationFileWatch;
     private EventEncoder eventEncoder;
+    private boolean binaryOutput;
+    private DeferredEventQueue deferredEventQueue;
+    private volatile boolean implementationVersionLoaded;
     private String implementationVersion;
     private EventWriter eventWriter;
     private EventWriter eventWriterWarn;
     private EventWriter eventWriterError;
+    /**
+     * Environments remembered on start are rendered lazily only for format that is used, environment
+     * values do not change while process runs so rendering later gives same output
+     */
+    private List<String> environmentsOnStart = Collections.emptyList();
+    private boolean environmentsOnStartShowName;
+    private boolean environmentsOnStartShowNullable;
     private String environmentsOnStartText;
     private String environmentsOnStartJson;
 
-    // Changeable configuration
-    private OutputFormat format;
-    private ZoneId zoneId;
-    private DateTimeOutputType dateTimeOutputType = DateTimeOutputType.DATE_TIME;
-    private DateTimeFormatter dateTimeFormatter;
-    private int defaultLogLevel = Level.INFO.toInt();
-    private boolean showDateTime = SHOW_DATE_TIME_DEFAULT;
-    private boolean showShortLogName = SHOW_SHORT_LOG_NAME_DEFAULT;
-    private boolean showLogName = SHOW_LOG_NAME_DEFAULT;
-    private boolean showThreadName = SHOW_THREAD_NAME_DEFAULT;
-    private boolean showLevelInBrackets = LEVEL_IN_BRACKETS_DEFAULT;
-    private boolean showMarker = SHOW_MARKERS_DEFAULT;
-    private Integer logNameLength;
-    private List<String> environments;
-    private boolean environmentShowName;
-    private boolean environmentShowNullable;
-
-    private List<Layout> layouts;
+    /**
+     * Changeable configuration that is computed completely before it is published with single volatile
+     * write, so refresh never exposes partially changed configuration and logger reads single reference
+     */
+    static final class Snapshot {
+
+        private final OutputFormat format;
+        private final ZoneId zoneId;
+        private final DateTimeOutputType dateTimeOutputType;
+        private final DateTimeFormatter dateTimeFormatter;
+        private final int defaultLogLevel;
+        private final LoggerLevelTree logLevels;
+        /**
+         * Events per second allowed for logger prefixes or null when no rate limits are configured
+         */
+        private final LoggerLevelTree rateLimits;
+        private final boolean showDateTime;
+        private final boolean showShortLogName;
+        private final boolean showLogName;
+        private final boolean showThreadName;
+        private final boolean showLevelInBrackets;
+        private final boolean showMarker;
+        private final boolean showMDC;
+        private final Integer logNameLength;
+        private final List<String> environments;
+        private final boolean environmentShowName;
+        private final boolean environmentShowNullable;
+        private final List<Layout> layouts;
+
+        private Snapshot(SimpleLoggerConfiguration configuration) {
+            this(configuration, configuration.computeSnapshotOutputFormat());
+        }
+
+        private Snapshot(SimpleLoggerConfiguration configuration, OutputFormat format) {
+            this.format = format;
+            this.dateTimeOutputType = configuration.computeDateTimeOutputType();
+            this.dateTimeFormatter = (DateTimeOutputType.DATE_TIME.equals(dateTimeOutputType)
+                    || DateTimeOutputType.TIME.equals(dateTimeOutputType))
+                            ? configuration.getDateTimeFormatter(dateTimeOutputType)
+                            : null;
+
+            final String zoneIdString = configuration.getStringProperty(ZONE_ID);
+            this.zoneId = (zoneIdString == null || "null".equals(zoneIdString))
+                    ? null
+                    : ZoneId.of(zoneIdString);
+
+            final String defaultLogLevelString = configuration.getStringProperty(DEFAULT_LOG_LEVEL);
+            this.defaultLogLevel = stringToLevelOrInfo(defaultLogLevelString);
+            this.logLevels = configuration.computeLogLevels();
+            this.rateLimits = configuration.computeRateLimits();
+
+            this.showShortLogName = configuration.getBooleanProperty(SHOW_SHORT_LOG_NAME, SHOW_SHORT_LOG_NAME_DEFAULT);
+            this.showDateTime = configuration.getBooleanProperty(SHOW_DATE_TIME, SHOW_DATE_TIME_DEFAULT);
+            this.showLogName = configuration.getBooleanProperty(SHOW_LOG_NAME, SHOW_LOG_NAME_DEFAULT);
+            this.showThreadName = configuration.getBooleanProperty(SHOW_THREAD_NAME, SHOW_THREAD_NAME_DEFAULT);
+            this.showLevelInBrackets = configuration.getBooleanProperty(LEVEL_IN_BRACKETS, LEVEL_IN_BRACKETS_DEFAULT);
+            this.showMarker = configuration.getBooleanProperty(SHOW_MARKERS, SHOW_MARKERS_DEFAULT);
+            this.showMDC = configuration.getBooleanProperty(SHOW_MDC, SHOW_MDC_DEFAULT);
+            final Integer logNameLengthValue = configuration.getIntegerProperty(SHOW_LOG_NAME_LENGTH);
+            this.logNameLength = (logNameLengthValue == null || logNameLengthValue <= 0)
+                    ? null
+                    : logNameLengthValue;
+
+            this.environments = configuration.computeEnvironments();
+            this.environmentShowName = configuration.getBooleanProperty(ENVIRONMENT_SHOW_NAME, true);
+            this.environmentShowNullable = configuration.getBooleanProperty(ENVIRONMENT_SHOW_NULLABLE, false);
+
+            // layouts are computed last as they depend on snapshot values
+            switch (format) {
+                case JSON:
+                    this.layouts = configuration.computeJsonLayouts(this);
+                    break;
+                case LOGFMT:
+                    this.layouts = configuration.computeLogfmtLayouts(this);
+                    break;
+                case BINARY:
+                    // binary writer encodes event fields, nothing is rendered
+                    this.layouts = Collections.emptyList();
+                    break;
+                default:
+                    this.layouts = configuration.computeTextLayouts(this);
+            }
+        }
+
+        ZoneId getZoneId() {
+            return (zoneId == null)
+                    ? ZoneId.systemDefault()
+                    : zoneId;
+        }
+
+        DateTimeFormatter getDateTimeFormatter() {
+            return dateTimeFormatter;
+        }
+
+        List<String> getEnvironments() {
+            return environments;
+        }
+
+        boolean isEnvironmentShowNullable() {
+            return environmentShowNullable;
+        }
+
+        boolean isEnvironmentShowName() {
+            return environmentShowName;
+        }
+
+        List<Layout> getLayouts() {
+            return layouts;
+        }
+
+        boolean isShowMDC() {
+            return showMDC;
+        }
+
+        boolean isShowShortLogName() {
+            return showShortLogName;
+        }
+
+        /**
+         * @param loggerName to find rate limit for
+         * @return events per second allowed for logger or its nearest package or 0 when not limited
+         */
+        int getRateLimit(String loggerName) {
+            if (rateLimits == null) {
+                return 0;
+            }
+
+            final int rateLimit = rateLimits.find(loggerName);
+            return (rateLimit == LoggerLevelTree.LEVEL_UNDEFINED)
+                    ? 0
+                    : rateLimit;
+        }
+
+        /**
+         * @return renderers of arguments for current format
+         */
+        ObjectRenderers getRenderers() {
+            return (OutputFormat.JSON.equals(format))
+                    ? ObjectRenderers.JSON
+                    : ObjectRenderers.TEXT;
+        }
+    }
+
+    private volatile Snapshot snapshot;
 
     void init() {
-        loadProperties();
+        this.imageBuildTime = "buildtime".equals(System.getProperty(IMAGE_CODE_PROPERTY));
+        this.imageBuildSystemProperties = (imageBuildTime)
+                ? getSystemProperties()
+                : Collections.emptyMap();
+        this.configurationFile = null;
+        this.properties = loadProperties();
+        final String configurationFileValue = getStringProperty(SimpleLoggerProperties.CONFIGURATION_FILE);
+        if (configurationFileValue != null && !configurationFileValue.isBlank()) {
+            this.configurationFile = Paths.get(configurationFileValue);
+            this.properties = loadProperties();
+        }
+        this.configurationFileWatch = getBooleanProperty(CONFIGURATION_FILE_WATCH, CONFIGURATION_FILE_WATCH_DEFAULT);
 
         this.initializeTime = System.currentTimeMillis();
-        this.implementationVersion = SimpleLoggerConfiguration.class.getPackage().getImplementationVersion();
+        this.implementationVersionLoaded = false;
+        this.implementationVersion = null;
 
         final String logFile = getStringProperty(LOG_FILE, SYSTEM_OUT);
         final String logFileWarn = getStringProperty(LOG_FILE_WARN, SYSTEM_OUT);
         final String logFileError = getStringProperty(LOG_FILE_ERROR, SYSTEM_OUT);
 
         this.eventEncoder = computeEventEncoder();
+        this.binaryOutput = OutputFormat.BINARY.equals(computeOutputFormat());
+        if (deferredEventQueue != null) {
+            deferredEventQueue.close();
+        }
+        this.deferredEventQueue = (getBooleanProperty(DEFERRED_FORMATTING, DEFERRED_FORMATTING_DEFAULT))
+                ? new DeferredEventQueue(computeDeferredFormattingQueueSize())
+                : null;
         final boolean cacheOutputStream = getBooleanProperty(CACHE_OUTPUT_STREAM_STRING, CACHE_OUTPUT_STREAM_DEFAULT);
         this.eventWriter = computeLoggerStream(computeOutputChoice(logFile, cacheOutputStream));
         this.eventWriterWarn = (logFile.equals(logFileWarn))
@@ -103,58 +283,190 @@ void init() {
             this.eventWriterError = computeLoggerStream(computeOutputChoice(logFileError, cacheOutputStream));
         }
 
-        computeChangeableConfiguration();
-        this.environmentsOnStartText = computeEnvironmentsOnStartText();
-        this.environmentsOnStartJson = computeEnvironmentsOnStartJson();
-        this.layouts = OutputFormat.TEXT.equals(format)
-                ? computeTextLayouts()
-                : computeJsonLayouts();
+        this.environmentsOnStart = (getBooleanProperty(ENVIRONMENT_REMEMBER_ON_START, false))
+                ? computeEnvironments()
+                : Collections.emptyList();
+        this.environmentsOnStartShowName = getBooleanProperty(ENVIRONMENT_SHOW_NAME, true);
+        this.environmentsOnStartShowNullable = getBooleanProperty(ENVIRONMENT_SHOW_NULLABLE, false);
+        this.environmentsOnStartText = null;
+        this.environmentsOnStartJson = null;
+        this.snapshot = new Snapshot(this);
+    }
+
+    boolean isInitializedAtImageBuild() {
+        return imageBuildTime;
+    }
+
+    /**
+     * @return true when configuration was initialized at native image build and native executable runs
+     *             now, so configuration is not started for runtime yet
+     */
+    boolean isImageRuntimeStart() {
+        return imageBuildTime && "runtime".equals(System.getProperty(IMAGE_CODE_PROPERTY));
+    }
+
+    /**
+     * Resets values remembered on start to native executable start
+     *
+     * @return true when configuration inputs can differ from image build and configuration should be
+     *             refreshed, like changed system properties, environment values or external file
+     */
+    boolean startImageRuntime() {
+        this.imageBuildTime = false;
+        this.initializeTime = System.currentTimeMillis();
+        this.environmentsOnStartText = null;
+        this.environmentsOnStartJson = null;
+
+        final Map<String, String> systemProperties = getSystemProperties();
+        if (configurationFile != null
+                || !environmentsOnStart.isEmpty()
+                || !systemProperties.equals(imageBuildSystemProperties)) {
+            return true;
+        }
+
+        for (String name : properties.stringPropertyNames()) {
+            if (isEnvironmentValue(properties.getProperty(name))) {
+                return true;
+            }
+        }
+        for (String value : systemProperties.values()) {
+            if (isEnvironmentValue(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Map<String, String> getSystemProperties() {
+        final Map<String, String> systemProperties = new HashMap<>();
+        try {
+            final Properties system = System.getProperties();
+            for (String name : system.stringPropertyNames()) {
+                if (name.startsWith(SimpleLoggerProperties.PREFIX)) {
+                    systemProperties.put(name, system.getProperty(name));
+                }
+            }
+        } catch (SecurityException e) {
+            // Ignore
+        }
+
+        return systemProperties;
     }
 
     void refresh() {
-        computeChangeableConfiguration();
-        this.layouts = OutputFormat.TEXT.equals(format)
-                ? computeTextLayouts()
-                : computeJsonLayouts();
+        this.snapshot = new Snapshot(this);
     }
 
-    private void computeChangeableConfiguration() {
-        this.format = computeOutputFormat();
-        this.dateTimeOutputType = computeDateTimeOutputType();
-        if (DateTimeOutputType.DATE_TIME.equals(dateTimeOutputType) || DateTimeOutputType.TIME.equals(dateTimeOutputType)) {
-            this.dateTimeFormatter = getDateTimeFormatter(dateTimeOutputType);
+    /**
+     * Reads properties from classpath and configuration file again, snapshot should be refreshed after
+     * properties changed
+     *
+     * @return names of properties that are changed, added or removed
+     */
+    Set<String> reloadProperties() {
+        final Properties previous = this.properties;
+        final Properties loaded = loadProperties();
+
+        final Set<String> changed = new HashSet<>();
+        for (String name : loaded.stringPropertyNames()) {
+            if (!loaded.getProperty(name).equals(previous.getProperty(name))) {
+                changed.add(name);
+            }
+        }
+        for (String name : previous.stringPropertyNames()) {
+            if (loaded.getProperty(name) == null) {
+                changed.add(name);
+            }
         }
 
-        this.zoneId = Optional.ofNullable(getStringProperty(ZONE_ID))
-                .filter(value -> (!"null".equals(value)))
-                .map(ZoneId::of)
-                .orElse(null);
+        this.properties = loaded;
+        return changed;
+    }
 
-        final String defaultLogLevelString = getStringProperty(DEFAULT_LOG_LEVEL);
-        if (defaultLogLevelString != null) {
-            this.defaultLogLevel = tryStringToLevel(defaultLogLevelString).orElse(Level.INFO.toInt());
+    /**
+     * All {@link SimpleLoggerProperties#PREFIX_LOG} properties are resolved once into tree, so loggers
+     * resolve their levels without property lookups for each package prefix
+     */
+    private LoggerLevelTree computeLogLevels() {
+        final Set<String> names = new HashSet<>(properties.stringPropertyNames());
+        try {
+            names.addAll(System.getProperties().stringPropertyNames());
+        } catch (SecurityException e) {
+            // Ignore
         }
 
-        this.showShortLogName = getBooleanProperty(SHOW_SHORT_LOG_NAME, SHOW_SHORT_LOG_NAME_DEFAULT);
-        this.showDateTime = getBooleanProperty(SHOW_DATE_TIME, SHOW_DATE_TIME_DEFAULT);
-        this.showLogName = getBooleanProperty(SHOW_LOG_NAME, SimpleLoggerConfiguration.SHOW_LOG_NAME_DEFAULT);
-        this.showThreadName = getBooleanProperty(SHOW_THREAD_NAME, SHOW_THREAD_NAME_DEFAULT);
-        this.showLevelInBrackets = getBooleanProperty(LEVEL_IN_BRACKETS, LEVEL_IN_BRACKETS_DEFAULT);
-        this.showMarker = getBooleanProperty(SHOW_MARKERS, SHOW_MARKERS_DEFAULT);
-        this.logNameLength = getIntProperty(SHOW_LOG_NAME_LENGTH)
-                .filter(i -> i > 0)
-                .orElse(null);
+        final LoggerLevelTree tree = new LoggerLevelTree();
+        for (String name : names) {
+            if (name.startsWith(PREFIX_LOG)) {
+                final String levelString = getStringProperty(name);
+                if (levelString != null) {
+                    tree.put(name.substring(PREFIX_LOG.length()), stringToLevelOrInfo(levelString));
+                }
+            }
+        }
 
-        this.environments = computeEnvironments();
-        this.environmentShowName = getBooleanProperty(ENVIRONMENT_SHOW_NAME, true);
-        this.environmentShowNullable = getBooleanProperty(ENVIRONMENT_SHOW_NULLABLE, false);
+        return tree;
+    }
+
+    /**
+     * {@link SimpleLoggerProperties#PREFIX_RATE_LIMIT} properties are resolved into tree same way as
+     * levels are, with events per second as value
+     *
+     * @return rate limits tree or null when no rate limits are configured
+     */
+    private LoggerLevelTree computeRateLimits() {
+        final Set<String> names = new HashSet<>(properties.stringPropertyNames());
+        try {
+            names.addAll(System.getProperties().stringPropertyNames());
+        } catch (SecurityException e) {
+            // Ignore
+        }
+
+        LoggerLevelTree tree = null;
+        for (String name : names) {
+            if (name.startsWith(PREFIX_RATE_LIMIT)) {
+                final Integer rateLimit = getIntegerProperty(name);
+                if (rateLimit == null || rateLimit < 0) {
+                    Util.report("Invalid rate limit in " + name + ", must be positive number of events per second or 0");
+                } else {
+                    if (tree == null) {
+                        tree = new LoggerLevelTree();
+                    }
+                    // 0 lifts limit of parent package
+                    tree.put(name.substring(PREFIX_RATE_LIMIT.length()), rateLimit);
+                }
+            }
+        }
+
+        return tree;
     }
 
     /**
      * @return logger stream used for writing events
      */
     private EventWriter computeLoggerStream(OutputChoice outputChoice) {
-        return new EventWriters.LockEventWriter(this, outputChoice);
+        return (binaryOutput)
+                ? new EventWriters.BinaryEventWriter(outputChoice)
+                : new EventWriters.LockEventWriter(this, outputChoice);
+    }
+
+    /**
+     * Binary output uses its own writers, so switch between binary and rendered output is applied only
+     * on initialization
+     */
+    private OutputFormat computeSnapshotOutputFormat() {
+        if (binaryOutput) {
+            return OutputFormat.BINARY;
+        }
+
+        final OutputFormat format = computeOutputFormat();
+        if (OutputFormat.BINARY.equals(format)) {
+            Util.report("BINARY output format is applied only on initialization, will output in TEXT format");
+            return OutputFormat.TEXT;
+        }
+
+        return format;
     }
 
     private OutputFormat computeOutputFormat() {
@@ -167,33 +479,38 @@ private OutputFormat computeOutputFormat() {
     }
 
     private EventEncoder computeEventEncoder() {
-        return Optional.ofNullable(getStringProperty(CHARSET, null))
-                .map(charset -> "null".equals(charset)
-                        ? new EventEncoders.SimpleEventEncoder()
-                        : new EventEncoders.CharsetEventEncoder(Charset.forName(charset)))
-                .orElseGet(() -> new EventEncoders.CharsetEventEncoder(StandardCharsets.UTF_8));
+        final String charset = getStringProperty(CHARSET, null);
+        if (charset == null) {
+            return new EventEncoders.CharsetEventEncoder(StandardCharsets.UTF_8);
+        }
+
+        return ("null".equals(charset))
+                ? new EventEncoders.SimpleEventEncoder()
+                : new EventEncoders.CharsetEventEncoder(Charset.forName(charset));
     }
 
     private DateTimeOutputType computeDateTimeOutputType() {
-        return Optional.ofNullable(getStringProperty(DATE_TIME_OUTPUT_TYPE))
-                .map(s -> {
-                    try {
-                        return DateTimeOutputType.valueOf(s);
-                    } catch (IllegalArgumentException e) {
-                        return DateTimeOutputType.DATE_TIME;
-                    }
-                })
-                .orElse(DateTimeOutputType.DATE_TIME);
+        final String dateTimeOutputType = getStringProperty(DATE_TIME_OUTPUT_TYPE);
+        if (dateTimeOutputType == null) {
+            return DateTimeOutputType.DATE_TIME;
+        }
+
+        try {
+            return DateTimeOutputType.valueOf(dateTimeOutputType);
+        } catch (IllegalArgumentException e) {
+            return DateTimeOutputType.DATE_TIME;
+        }
     }
 
     String computeLogName(String name) {
-        if (!showLogName) {
+        final Snapshot current = snapshot;
+        if (!current.showLogName) {
             return null;
         }
 
-        return (logNameLength == null)
+        return (current.logNameLength == null)
                 ? name
-                : ClassNameAbbreviator.abbreviate(name, logNameLength);
+                : ClassNameAbbreviator.abbreviate(name, current.logNameLength);
     }
 
     EventWriter getEventWriter(Level logLevel) {
@@ -207,98 +524,113 @@ EventWriter getEventWriter(Level logLevel) {
         }
     }
 
-    private Layout getDateTimeTextLayout(DateTimeOutputType dateTimeOutputType) {
-        switch (dateTimeOutputType) {
+    private Layout getDateTimeTextLayout(Snapshot snapshot) {
+        switch (snapshot.dateTimeOutputType) {
             case TIME:
-                return new SimpleLoggerLayouts.TimeLayout(this);
+                return new SimpleLoggerLayouts.TimeLayout(snapshot);
             case DATE_TIME:
-                return new SimpleLoggerLayouts.DateTimeLayout(this);
+                return new SimpleLoggerLayouts.DateTimeLayout(snapshot);
             case UNIX_TIME:
                 return new SimpleLoggerLayouts.UnixTimeLayout();
             case MILLIS_FROM_START:
                 return new SimpleLoggerLayouts.MillisFromStartLayout(this);
             default:
-                throw new IllegalStateException("Unknown DateTimeOutputType: " + dateTimeOutputType);
+                throw new IllegalStateException("Unknown DateTimeOutputType: " + snapshot.dateTimeOutputType);
+        }
+    }
+
+    private Layout getDateTimeJsonLayout(Snapshot snapshot, JsonFields fields) {
+        switch (snapshot.dateTimeOutputType) {
+            case TIME:
+                return new JsonLoggerLayouts.TimeLayout(snapshot, fields);
+            case DATE_TIME:
+                return new JsonLoggerLayouts.DateTimeLayout(snapshot, fields);
+            case UNIX_TIME:
+                return new JsonLoggerLayouts.UnixTimeLayout(fields);
+            case MILLIS_FROM_START:
+                return new JsonLoggerLayouts.MillisFromStartLayout(this, fields);
+            default:
+                throw new IllegalStateException("Unknown DateTimeOutputType: " + snapshot.dateTimeOutputType);
         }
     }
 
-    private Layout getDateTimeJsonLayout(DateTimeOutputType dateTimeOutputType) {
-        switch (dateTimeOutputType) {
+    private Layout getDateTimeLogfmtLayout(Snapshot snapshot) {
+        switch (snapshot.dateTimeOutputType) {
             case TIME:
-                return new JsonLoggerLayouts.TimeLayout(this);
+                return new LogfmtLoggerLayouts.TimeLayout(snapshot);
             case DATE_TIME:
-                return new JsonLoggerLayouts.DateTimeLayout(this);
+                return new LogfmtLoggerLayouts.DateTimeLayout(snapshot);
             case UNIX_TIME:
-                return new JsonLoggerLayouts.UnixTimeLayout();
+                return new LogfmtLoggerLayouts.UnixTimeLayout();
             case MILLIS_FROM_START:
-                return new JsonLoggerLayouts.MillisFromStartLayout(this);
+                return new LogfmtLoggerLayouts.MillisFromStartLayout(this);
             default:
-                throw new IllegalStateException("Unknown DateTimeOutputType: " + dateTimeOutputType);
+                throw new IllegalStateException("Unknown DateTimeOutputType: " + snapshot.dateTimeOutputType);
         }
     }
 
     private List<String> computeEnvironments() {
-        return Optional.ofNullable(getStringProperty(ENVIRONMENTS))
-                .filter(envs -> !envs.isBlank())
-                .map(envs -> List.copyOf(Arrays.stream(envs.split(","))
-                        .map(String::strip)
-                        .filter(env -> !env.isBlank())
-                        .collect(Collectors.toList())))
-                .orElse(Collections.emptyList());
+        final String envs = getStringProperty(ENVIRONMENTS);
+        if (envs == null || envs.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        final List<String> environments = new ArrayList<>();
+        for (String env : envs.split(",")) {
+            final String stripped = env.strip();
+            if (!stripped.isBlank()) {
+                environments.add(stripped);
+            }
+        }
+
+        return List.copyOf(environments);
     }
 
     private String computeEnvironmentsOnStartText() {
-        final boolean rememberEnvsOnStart = getBooleanProperty(ENVIRONMENT_REMEMBER_ON_START, false);
-        if (rememberEnvsOnStart) {
-            final String envsOnStart = this.environments.stream()
-                    .map(env -> {
-                        final String envValue = System.getenv(env);
-                        if (envValue == null && !this.environmentShowNullable) {
-                            return null;
-                        }
-
-                        return this.environmentShowName
-                                ? env + "=" + envValue
-                                : envValue;
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.joining(", "));
-
-            if (!envsOnStart.isEmpty()) {
-                return "[" + envsOnStart + "] ";
-            } else {
-                return null;
+        final StringBuilder envsOnStart = new StringBuilder();
+        for (String env : environmentsOnStart) {
+            final String envValue = System.getenv(env);
+            if (envValue == null && !environmentsOnStartShowNullable) {
+                continue;
             }
-        } else {
-            return null;
+
+            if (envsOnStart.length() > 0) {
+                envsOnStart.append(", ");
+            }
+
+            if (environmentsOnStartShowName) {
+                envsOnStart.append(env).append('=');
+            }
+            envsOnStart.append(envValue);
         }
+
+        return (envsOnStart.length() == 0)
+                ? null
+                : "[" + envsOnStart + "] ";
     }
 
     private String computeEnvironmentsOnStartJson() {
-        final boolean rememberEnvsOnStart = getBooleanProperty(ENVIRONMENT_REMEMBER_ON_START, false);
-        if (rememberEnvsOnStart) {
-            final List<String> envsOnStart = this.environments.stream()
-                    .map(envName -> {
-                        final String envValue = System.getenv(envName);
-                        if (envValue == null && !environmentShowNullable) {
-                            return null;
-                        }
-
-                        return (environmentShowName)
-                                ? "{\"name\":\"" + envName + "\",\"value\":\"" + envValue + "\"}"
-                                : "\"" + envValue + "\"";
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-
-            if (envsOnStart.isEmpty()) {
-                return null;
+        final StringBuilder envsOnStart = new StringBuilder();
+        for (String envName : environmentsOnStart) {
+            final String envValue = System.getenv(envName);
+            if (envValue == null && !environmentsOnStartShowNullable) {
+                continue;
+            }
+
+            if (envsOnStart.length() > 0) {
+                envsOnStart.append(',');
+            }
+
+            if (environmentsOnStartShowName) {
+                envsOnStart.append("{\"name\":\"").append(envName).append("\",\"value\":\"").append(envValue).append("\"}");
             } else {
-                return envsOnStart.stream().collect(Collectors.joining(",", "\"environment\": [", "]"));
+                envsOnStart.append('"').append(envValue).append('"');
             }
-        } else {
-            return null;
         }
+
+        return (envsOnStart.length() == 0)
+                ? null
+                : "[" + envsOnStart + "]";
     }
 
     private DateTimeFormatter getDateTimeFormatter(DateTimeOutputType dateTimeOutputType) {
@@ -329,45 +661,50 @@ private DateTimeFormatter getDateTimeFormatter(DateTimeOutputType dateTimeOutput
         }
     }
 
-    private List<Layout> computeTextLayouts() {
+    private List<Layout> computeTextLayouts(Snapshot snapshot) {
         final List<Layout> loggerLayouts = new ArrayList<>();
-        if (showDateTime) {
-            loggerLayouts.add(getDateTimeTextLayout(dateTimeOutputType));
+        if (snapshot.showDateTime) {
+            loggerLayouts.add(getDateTimeTextLayout(snapshot));
         }
 
         final boolean showImplementationVersion = getBooleanProperty(SHOW_IMPLEMENTATION_VERSION,
                 SHOW_IMPLEMENTATION_VERSION_DEFAULT)
-                && this.implementationVersion != null
-                && !"null".equalsIgnoreCase(this.implementationVersion);
+                && getImplementationVersion() != null
+                && !"null".equalsIgnoreCase(getImplementationVersion());
         if (showImplementationVersion) {
             loggerLayouts.add(new SimpleLoggerLayouts.ImplementationLayout(this));
         }
 
-        if (showThreadName) {
+        if (snapshot.showThreadName) {
             loggerLayouts.add(new SimpleLoggerLayouts.ThreadLayout());
         }
 
-        if (showMarker) {
+        if (snapshot.showMDC) {
+            loggerLayouts.add(new SimpleLoggerLayouts.MDCLayout());
+        }
+
+        if (snapshot.showMarker) {
             loggerLayouts.add(new SimpleLoggerLayouts.MarkerLayout());
         }
 
-        if (environmentsOnStartText != null) {
+        if (getEnvironmentsOnStartText() != null) {
             loggerLayouts.add(new SimpleLoggerLayouts.EnvironmentOnStartLayout(this));
-        } else if (!environments.isEmpty()) {
-            loggerLayouts.add(new SimpleLoggerLayouts.EnvironmentLayout(this));
+        } else if (!snapshot.environments.isEmpty()) {
+            loggerLayouts.add(new SimpleLoggerLayouts.EnvironmentLayout(snapshot));
         }
 
-        if (showLevelInBrackets) {
+        if (snapshot.showLevelInBrackets) {
             loggerLayouts.add(new SimpleLoggerLayouts.LevelLayout("[TRACE] ", "[DEBUG] ", "[INFO] ", "[WARN] ", "[ERROR] "));
         } else {
             loggerLayouts.add(new SimpleLoggerLayouts.LevelLayout("TRACE ", "DEBUG ", "INFO ", "WARN ", "ERROR "));
         }
 
-        if (showShortLogName || showLogName) {
+        if (snapshot.showShortLogName || snapshot.showLogName) {
             loggerLayouts.add(new SimpleLoggerLayouts.LoggerNameLayout());
         }
 
         loggerLayouts.add(new SimpleLoggerLayouts.MessageLayout());
+        loggerLayouts.add(new SimpleLoggerLayouts.KeyValueLayout());
         loggerLayouts.add(new SimpleLoggerLayouts.SeparatorLayout());
         loggerLayouts.add(new SimpleLoggerLayouts.ThrowableLayout());
 
@@ -375,132 +712,264 @@ private List<Layout> computeTextLayouts() {
         return Collections.unmodifiableList(loggerLayouts);
     }
 
-    private List<Layout> computeJsonLayouts() {
+    /**
+     * Field names are resolved from preset and {@link SimpleLoggerProperties#PREFIX_JSON_FIELD} overrides
+     * once, layouts append them pre-encoded
+     */
+    private JsonFields computeJsonFields() {
+        JsonFieldsPreset preset = JsonFieldsPreset.DEFAULT;
+        final String presetValue = getStringProperty(JSON_FIELDS);
+        if (presetValue != null) {
+            try {
+                preset = JsonFieldsPreset.valueOf(presetValue.strip().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                Util.report("Invalid JSON fields preset in " + JSON_FIELDS + ", will use DEFAULT field names", e);
+            }
+        }
+
+        final String[] names = JsonFields.getNames(preset);
+        for (int i = 0; i < names.length; i++) {
+            final String name = getStringProperty(PREFIX_JSON_FIELD + JsonFields.NAMES[i]);
+            if (name != null && !name.isBlank()) {
+                names[i] = name.strip();
+            }
+        }
+
+        return new JsonFields(names);
+    }
+
+    private List<Layout> computeJsonLayouts(Snapshot snapshot) {
+        final JsonFields fields = computeJsonFields();
         final List<Layout> loggerLayouts = new ArrayList<>();
-        if (showDateTime) {
-            loggerLayouts.add(getDateTimeJsonLayout(dateTimeOutputType));
+        if (snapshot.showDateTime) {
+            loggerLayouts.add(getDateTimeJsonLayout(snapshot, fields));
         }
 
         final boolean showImplementationVersion = getBooleanProperty(SHOW_IMPLEMENTATION_VERSION,
                 SHOW_IMPLEMENTATION_VERSION_DEFAULT)
-                && this.implementationVersion != null
-                && !"null".equalsIgnoreCase(this.implementationVersion);
+                && getImplementationVersion() != null
+                && !"null".equalsIgnoreCase(getImplementationVersion());
         if (showImplementationVersion) {
-            loggerLayouts.add(new JsonLoggerLayouts.ImplementationLayout(this));
+            loggerLayouts.add(new JsonLoggerLayouts.ImplementationLayout(this, fields));
         }
 
-        if (showThreadName) {
-            loggerLayouts.add(new JsonLoggerLayouts.ThreadLayout());
+        if (snapshot.showThreadName) {
+            loggerLayouts.add(new JsonLoggerLayouts.ThreadLayout(fields));
         }
 
-        if (showMarker) {
-            loggerLayouts.add(new JsonLoggerLayouts.MarkerLayout());
+        if (snapshot.showMDC) {
+            loggerLayouts.add(new JsonLoggerLayouts.MDCLayout(fields));
         }
 
-        if (environmentsOnStartJson != null) {
-            loggerLayouts.add(new JsonLoggerLayouts.EnvironmentOnStartLayout(this));
-        } else if (!environments.isEmpty()) {
-            loggerLayouts.add(new JsonLoggerLayouts.EnvironmentLayout(this));
+        if (snapshot.showMarker) {
+            loggerLayouts.add(new JsonLoggerLayouts.MarkerLayout(fields));
         }
 
-        loggerLayouts.add(new JsonLoggerLayouts.LevelLayout("TRACE", "DEBUG", "INFO", "WARN", "ERROR"));
-        if (showShortLogName || showLogName) {
-            loggerLayouts.add(new JsonLoggerLayouts.LoggerNameLayout());
+        if (getEnvironmentsOnStartJson() != null) {
+            loggerLayouts.add(new JsonLoggerLayouts.EnvironmentOnStartLayout(this, fields));
+        } else if (!snapshot.environments.isEmpty()) {
+            loggerLayouts.add(new JsonLoggerLayouts.EnvironmentLayout(snapshot, fields));
         }
 
-        loggerLayouts.add(new JsonLoggerLayouts.MessageLayout());
-        loggerLayouts.add(new JsonLoggerLayouts.ThrowableLayout());
+        loggerLayouts.add(new JsonLoggerLayouts.LevelLayout(fields));
+        if (snapshot.showShortLogName || snapshot.showLogName) {
+            loggerLayouts.add(new JsonLoggerLayouts.LoggerNameLayout(fields));
+        }
+
+        loggerLayouts.add(new JsonLoggerLayouts.MessageLayout(fields));
+        loggerLayouts.add(new JsonLoggerLayouts.KeyValueLayout());
+        loggerLayouts.add(new JsonLoggerLayouts.ThrowableLayout(fields));
 
         Collections.sort(loggerLayouts);
 
         final List<Layout> jsonLayouts = new ArrayList<>();
         jsonLayouts.add(new JsonLoggerLayouts.JsonStartTokenLayout());
         for (int i = 0; i < loggerLayouts.size(); i++) {
-            jsonLayouts.add(loggerLayouts.get(i));
+            final Layout layout = loggerLayouts.get(i);
 
-            // skip separate token before JsonLoggerLayouts.ThrowableLayout
-            if (i + 1 == loggerLayouts.size()) {
-                jsonLayouts.add(new JsonLoggerLayouts.JsonEndTokenLayout());
-            } else if (i + 2 < loggerLayouts.size()) {
+            // skip separate token before optional layouts, they print their own separator
+            if (i > 0 && !(layout instanceof JsonLoggerLayouts.OptionalLayout)) {
                 jsonLayouts.add(new JsonLoggerLayouts.JsonSeparatorLayout());
             }
+
+            jsonLayouts.add(layout);
         }
+        jsonLayouts.add(new JsonLoggerLayouts.JsonEndTokenLayout());
 
         return Collections.unmodifiableList(jsonLayouts);
     }
 
-    ZoneId getZoneId() {
-        return (zoneId == null)
-                ? ZoneId.systemDefault()
-                : zoneId;
-    }
+    private List<Layout> computeLogfmtLayouts(Snapshot snapshot) {
+        final List<Layout> loggerLayouts = new ArrayList<>();
+        if (snapshot.showDateTime) {
+            loggerLayouts.add(getDateTimeLogfmtLayout(snapshot));
+        }
+
+        final boolean showImplementationVersion = getBooleanProperty(SHOW_IMPLEMENTATION_VERSION,
+                SHOW_IMPLEMENTATION_VERSION_DEFAULT)
+                && getImplementationVersion() != null
+                && !"null".equalsIgnoreCase(getImplementationVersion());
+        if (showImplementationVersion) {
+            loggerLayouts.add(new LogfmtLoggerLayouts.ImplementationLayout(this));
+        }
 
-    List<String> getEnvironments() {
-        return environments;
+        if (snapshot.showThreadName) {
+            loggerLayouts.add(new LogfmtLoggerLayouts.ThreadLayout());
+        }
+
+        if (snapshot.showMDC) {
+            loggerLayouts.add(new LogfmtLoggerLayouts.MDCLayout());
+        }
+
+        if (snapshot.showMarker) {
+            loggerLayouts.add(new LogfmtLoggerLayouts.MarkerLayout());
+        }
+
+        if (!environmentsOnStart.isEmpty()) {
+            loggerLayouts.add(new LogfmtLoggerLayouts.EnvironmentOnStartLayout(environmentsOnStart,
+                    environmentsOnStartShowName, environmentsOnStartShowNullable));
+        } else if (!snapshot.environments.isEmpty()) {
+            loggerLayouts.add(new LogfmtLoggerLayouts.EnvironmentLayout(snapshot));
+        }
+
+        // field keys are precomputed into level values
+        loggerLayouts.add(new SimpleLoggerLayouts.LevelLayout("level=TRACE ", "level=DEBUG ", "level=INFO ", "level=WARN ",
+                "level=ERROR "));
+        if (snapshot.showShortLogName || snapshot.showLogName) {
+            loggerLayouts.add(new LogfmtLoggerLayouts.LoggerNameLayout());
+        }
+
+        loggerLayouts.add(new LogfmtLoggerLayouts.MessageLayout());
+        loggerLayouts.add(new LogfmtLoggerLayouts.KeyValueLayout());
+        loggerLayouts.add(new LogfmtLoggerLayouts.ThrowableLayout());
+        Collections.sort(loggerLayouts);
+
+        // separator ends line after all fields, including throwable
+        loggerLayouts.add(new LogfmtLoggerLayouts.SeparatorLayout());
+        return Collections.unmodifiableList(loggerLayouts);
     }
 
     String getEnvironmentsOnStartText() {
+        if (environmentsOnStartText == null && !environmentsOnStart.isEmpty()) {
+            this.environmentsOnStartText = computeEnvironmentsOnStartText();
+        }
         return environmentsOnStartText;
     }
 
     String getEnvironmentsOnStartJson() {
+        if (environmentsOnStartJson == null && !environmentsOnStart.isEmpty()) {
+            this.environmentsOnStartJson = computeEnvironmentsOnStartJson();
+        }
         return environmentsOnStartJson;
     }
 
-    boolean isEnvironmentShowNullable() {
-        return environmentShowNullable;
-    }
-
-    boolean isEnvironmentShowName() {
-        return environmentShowName;
+    /**
+     * @return current changeable configuration, should be read once per operation
+     */
+    Snapshot snapshot() {
+        return snapshot;
     }
 
-    List<Layout> getLayouts() {
-        return layouts;
+    /**
+     * @param format to render events with
+     * @return configuration with current properties that renders events in given format
+     */
+    Snapshot snapshot(OutputFormat format) {
+        return new Snapshot(this, format);
     }
 
+    /**
+     * Reading package manifest is not cheap on start, so version is read only when layout needs it
+     */
     String getImplementationVersion() {
+        if (!implementationVersionLoaded) {
+            this.implementationVersion = SimpleLoggerConfiguration.class.getPackage().getImplementationVersion();
+            this.implementationVersionLoaded = true;
+        }
         return implementationVersion;
     }
 
-    DateTimeFormatter getDateTimeFormatter() {
-        return dateTimeFormatter;
-    }
-
     long getInitializeTime() {
         return initializeTime;
     }
 
     int getDefaultLogLevel() {
-        return defaultLogLevel;
+        return snapshot.defaultLogLevel;
     }
 
-    boolean isShowShortLogName() {
-        return showShortLogName;
+    /**
+     * @param loggerName to find level for
+     * @return level configured for logger or its nearest package or default level
+     */
+    int getLogLevel(String loggerName) {
+        final Snapshot current = snapshot;
+        final int level = current.logLevels.find(loggerName);
+        return (level == LoggerLevelTree.LEVEL_UNDEFINED)
+                ? current.defaultLogLevel
+                : level;
+    }
+
+    /**
+     * @return queue that formats events in background or null when events are formatted by caller
+     */
+    DeferredEventQueue getDeferredEventQueue() {
+        return deferredEventQueue;
+    }
+
+    private int computeDeferredFormattingQueueSize() {
+        final Integer queueSize = getIntegerProperty(DEFERRED_FORMATTING_QUEUE_SIZE);
+        return (queueSize == null || queueSize <= 0)
+                ? DEFERRED_FORMATTING_QUEUE_SIZE_DEFAULT
+                : queueSize;
     }
 
     EventEncoder getEventEncoder() {
         return eventEncoder;
     }
 
-    private void loadProperties() {
+    Path getConfigurationFile() {
+        return configurationFile;
+    }
+
+    boolean isConfigurationFileWatch() {
+        return configurationFileWatch;
+    }
+
+    @SuppressWarnings("removal")
+    private Properties loadProperties() {
+        final Properties loaded = new Properties();
+
         // Add props from the resource simplelogger.properties
-        InputStream in = AccessController.doPrivileged((PrivilegedAction<InputStream>) () -> {
-            ClassLoader threadCL = Thread.currentThread().getContextClassLoader();
-            if (threadCL != null) {
-                return threadCL.getResourceAsStream(CONFIGURATION_FILE);
-            } else {
-                return ClassLoader.getSystemResourceAsStream(CONFIGURATION_FILE);
-            }
-        });
+        // privileged action is required only when security manager is present
+        final InputStream in = (System.getSecurityManager() == null)
+                ? getConfigurationResource()
+                : AccessController.doPrivileged((PrivilegedAction<InputStream>) SimpleLoggerConfiguration::getConfigurationResource);
 
         if (null != in) {
             try (in) {
-                properties.load(in);
+                loaded.load(in);
             } catch (IOException e) {
                 // ignored
             }
         }
+
+        // Add props from external configuration file that override classpath props
+        if (configurationFile != null) {
+            try (InputStream fileIn = Files.newInputStream(configurationFile)) {
+                loaded.load(fileIn);
+            } catch (IOException e) {
+                Util.report("Could not read configuration file [" + configurationFile + "]", e);
+            }
+        }
+
+        return loaded;
+    }
+
+    private static InputStream getConfigurationResource() {
+        final ClassLoader threadCL = Thread.currentThread().getContextClassLoader();
+        return (threadCL != null)
+                ? threadCL.getResourceAsStream(CONFIGURATION_FILE)
+                : ClassLoader.getSystemResourceAsStream(CONFIGURATION_FILE);
     }
 
     String getStringProperty(String name, String defaultValue) {
@@ -553,15 +1022,15 @@ private boolean getBooleanProperty(String name, boolean defaultValue) {
                 : "true".equalsIgnoreCase(prop);
     }
 
-    private Optional<Integer> getIntProperty(String name) {
+    private Integer getIntegerProperty(String name) {
         final String prop = getStringProperty(name);
         if (prop == null)
-            return Optional.empty();
+            return null;
 
         try {
-            return Optional.of(Integer.parseInt(prop));
+            return Integer.parseInt(prop);
         } catch (NumberFormatException e) {
-            return Optional.empty();
+            return null;
         }
     }
 
@@ -569,6 +1038,17 @@ private static boolean isEnvironmentValue(String value) {
         return value != null && value.startsWith("${") && value.endsWith("}");
     }
 
+    private static int stringToLevelOrInfo(String levelStr) {
+        if (levelStr == null) {
+            return Level.INFO.toInt();
+        }
+
+        final Integer level = stringToLevel(levelStr);
+        return (level == null)
+                ? Level.INFO.toInt()
+                : level;
+    }
+
     static Optional<Integer> tryStringToLevel(String levelStr) {
         return Optional.ofNullable(stringToLevel(levelStr));
     }
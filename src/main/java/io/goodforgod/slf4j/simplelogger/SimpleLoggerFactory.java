@@ -1,7 +1,17 @@
 package io.goodforgod.slf4j.simplelogger;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
@@ -16,11 +26,70 @@
  */
 public final class SimpleLoggerFactory implements ILoggerFactory {
 
+    /**
+     * Started factories, configuration is process-wide so its changes are applied to loggers of each of
+     * them, guarded by class
+     */
+    private static final Set<SimpleLoggerFactory> FACTORIES = Collections.newSetFromMap(new WeakHashMap<>());
+
     private final ConcurrentMap<String, SimpleLogger> loggerMap;
 
+    /**
+     * Runtime level overrides with all created loggers registered, guarded by factory
+     */
+    private LoggerLevelTree levelOverrides = new LoggerLevelTree();
+    /**
+     * Overrides that expire, so expired task does not reset override that was set after it and restores
+     * override that was set before it, guarded by factory
+     */
+    private final Map<String, LevelExpiration> levelExpirations = new HashMap<>();
+    /**
+     * Single daemon thread that expires overrides, created on first override with time to live
+     */
+    private ScheduledThreadPoolExecutor levelExpiryScheduler;
+    /**
+     * False while factory is created at native image build and native executable did not start it yet
+     */
+    private volatile boolean started;
+
     public SimpleLoggerFactory() {
         this.loggerMap = new ConcurrentHashMap<>();
         SimpleLogger.lazyInit();
+
+        // threads can not be started while native image is built, factory is started in native executable
+        if (!SimpleLogger.CONFIG.isInitializedAtImageBuild()) {
+            start();
+        }
+    }
+
+    private void start() {
+        synchronized (SimpleLoggerFactory.class) {
+            this.started = true;
+            FACTORIES.add(this);
+        }
+
+        // single watcher reloads configuration for all factories
+        final Path configurationFile = SimpleLogger.CONFIG.getConfigurationFile();
+        if (configurationFile != null && SimpleLogger.CONFIG.isConfigurationFileWatch()) {
+            ConfigurationWatcher.watch(configurationFile, SimpleLoggerFactory::reload);
+        }
+    }
+
+    /**
+     * Configuration and loggers created while native image was built are kept, only runtime overrides
+     * are applied once by refresh when native executable requests its first logger
+     */
+    private void startImageRuntime() {
+        synchronized (SimpleLoggerFactory.class) {
+            if (started || !SimpleLogger.CONFIG.isImageRuntimeStart()) {
+                return;
+            }
+
+            if (SimpleLogger.CONFIG.startImageRuntime()) {
+                refresh();
+            }
+            start();
+        }
     }
 
     /**
@@ -28,7 +97,27 @@ public SimpleLoggerFactory() {
      */
     @Override
     public Logger getLogger(String name) {
-        return loggerMap.computeIfAbsent(name, k -> new SimpleLogger(name));
+        if (!started) {
+            startImageRuntime();
+        }
+
+        final SimpleLogger logger = loggerMap.get(name);
+        if (logger != null) {
+            return logger;
+        }
+
+        return loggerMap.computeIfAbsent(name, k -> {
+            // logger is registered and computes its level under lock, so refresh does not miss its override
+            synchronized (this) {
+                final SimpleLogger created = new SimpleLogger(name);
+                levelOverrides.register(created);
+                final int overrideLevel = levelOverrides.find(name);
+                if (overrideLevel != LoggerLevelTree.LEVEL_UNDEFINED) {
+                    created.setCurrentLogLevel(overrideLevel);
+                }
+                return created;
+            }
+        });
     }
 
     public void setLogLevel(String logLevel) {
@@ -37,9 +126,11 @@ public void setLogLevel(String logLevel) {
 
     public void setLogLevel(String logLevel, Predicate<Logger> loggerPredicate) {
         if (logLevel != null && loggerPredicate != null) {
-            for (SimpleLogger logger : loggerMap.values()) {
-                if (loggerPredicate.test(logger)) {
-                    logger.setCurrentLogLevel(logLevel);
+            synchronized (this) {
+                for (SimpleLogger logger : loggerMap.values()) {
+                    if (loggerPredicate.test(logger)) {
+                        logger.setCurrentLogLevel(logLevel);
+                    }
                 }
             }
         }
@@ -54,12 +145,218 @@ public void setLogLevel(Level logLevel, Predicate<Logger> loggerPredicate) {
     }
 
     /**
-     * Refresh loggers
+     * Sets level for logger with such name and all its descendant loggers, including loggers that are
+     * created later, nearest override to logger takes precedence.
+     * Only loggers of the subtree are updated.
+     *
+     * @param loggerName logger name or package prefix like "com.acme.payments"
+     * @param logLevel   to set
+     */
+    public void setLoggerLevel(String loggerName, Level logLevel) {
+        if (loggerName != null && logLevel != null) {
+            synchronized (this) {
+                cancelExpiration(loggerName);
+                levelOverrides.put(loggerName, logLevel.toInt());
+                levelOverrides.forEachLogger(loggerName, this::computeLogLevel);
+            }
+        }
+    }
+
+    /**
+     * Sets level the same way as {@link #setLoggerLevel(String, Level)} does, but override is removed
+     * automatically after time to live passes and loggers get back to override that was set before or
+     * to their configured level, unless override was set or reset again before that.
+     *
+     * @param loggerName logger name or package prefix like "com.acme.payments"
+     * @param logLevel   to set
+     * @param timeToLive after which override is removed
+     */
+    public void setLoggerLevel(String loggerName, Level logLevel, Duration timeToLive) {
+        if (loggerName != null && logLevel != null && timeToLive != null) {
+            synchronized (this) {
+                // override that expires replaces another one, so the override before them both is restored
+                final LevelExpiration replaced = levelExpirations.get(loggerName);
+                final int previousLevel = (replaced == null)
+                        ? levelOverrides.get(loggerName)
+                        : replaced.previousLevel;
+
+                setLoggerLevel(loggerName, logLevel);
+
+                final LevelExpiration expiration = new LevelExpiration(previousLevel);
+                levelExpirations.put(loggerName, expiration);
+                if (levelExpiryScheduler == null) {
+                    levelExpiryScheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                        final Thread thread = new Thread(r, "simple-logger-level-expiry");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    // overrides with long time to live are often replaced, so cancelled tasks are not kept
+                    levelExpiryScheduler.setRemoveOnCancelPolicy(true);
+                }
+
+                expiration.future = levelExpiryScheduler.schedule(() -> expireLogLevel(loggerName, expiration),
+                        timeToLive.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private synchronized void expireLogLevel(String loggerName, LevelExpiration expiration) {
+        if (levelExpirations.get(loggerName) != expiration) {
+            return;
+        }
+
+        if (expiration.previousLevel == LoggerLevelTree.LEVEL_UNDEFINED) {
+            resetLoggerLevel(loggerName);
+        } else {
+            cancelExpiration(loggerName);
+            levelOverrides.put(loggerName, expiration.previousLevel);
+            levelOverrides.forEachLogger(loggerName, this::computeLogLevel);
+        }
+    }
+
+    private static final class LevelExpiration {
+
+        /**
+         * Override level to restore on expiration or {@link LoggerLevelTree#LEVEL_UNDEFINED}
+         */
+        private final int previousLevel;
+        /**
+         * Scheduled expiration task, cancelled when override is replaced or reset before it expires
+         */
+        private ScheduledFuture<?> future;
+
+        private LevelExpiration(int previousLevel) {
+            this.previousLevel = previousLevel;
+        }
+
+        private void cancel() {
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * @return number of override expirations that are scheduled and not cancelled yet
      */
-    void refresh() {
-        SimpleLogger.CONFIG.refresh();
-        for (SimpleLogger logger : loggerMap.values()) {
+    synchronized int scheduledLevelExpirations() {
+        return (levelExpiryScheduler == null)
+                ? 0
+                : levelExpiryScheduler.getQueue().size();
+    }
+
+    private void cancelExpiration(String loggerName) {
+        final LevelExpiration expiration = levelExpirations.remove(loggerName);
+        if (expiration != null) {
+            expiration.cancel();
+        }
+    }
+
+    /**
+     * Removes level set with {@link #setLoggerLevel(String, Level)}, so loggers of the subtree get nearest
+     * override of ancestor or configured level
+     *
+     * @param loggerName logger name or package prefix like "com.acme.payments"
+     */
+    public void resetLoggerLevel(String loggerName) {
+        if (loggerName != null) {
+            synchronized (this) {
+                cancelExpiration(loggerName);
+                levelOverrides.remove(loggerName);
+                levelOverrides.forEachLogger(loggerName, this::computeLogLevel);
+            }
+        }
+    }
+
+    /**
+     * Runs runnable with level enabled for all loggers only in current thread, like for single request
+     * that should be logged with DEBUG level. Thread level only enables levels, levels that are enabled
+     * for logger stay enabled.
+     *
+     * @param logLevel to enable in current thread while runnable is running
+     * @param runnable to run
+     */
+    public void withThreadLevel(Level logLevel, Runnable runnable) {
+        if (logLevel == null) {
+            runnable.run();
+        } else {
+            ThreadLogLevel.run(logLevel.toInt(), runnable);
+        }
+    }
+
+    private void computeLogLevel(SimpleLogger logger) {
+        final int overrideLevel = levelOverrides.find(logger.getName());
+        if (overrideLevel == LoggerLevelTree.LEVEL_UNDEFINED) {
             logger.computeCurrentLogLevel();
+        } else {
+            logger.setCurrentLogLevel(overrideLevel);
+        }
+    }
+
+    /**
+     * Reads configuration properties and configuration file again and applies them to all loggers, lowest
+     * enabled level is computed exactly again so levels that were lowered before are constant for JIT
+     * again. Properties changed in configuration file are applied to loggers of other factories too.
+     * <p>
+     * Output files and charset are not changed on refresh. Refresh is serialized with {@link #reload()},
+     * so properties are not swapped while watcher reload reads and applies them.
+     */
+    public void refresh() {
+        synchronized (SimpleLoggerFactory.class) {
+            final Set<String> changed = SimpleLogger.CONFIG.reloadProperties();
+            SimpleLogger.CONFIG.refresh();
+            synchronized (this) {
+                for (SimpleLogger logger : loggerMap.values()) {
+                    computeLogLevel(logger);
+                }
+            }
+
+            for (SimpleLoggerFactory factory : FACTORIES) {
+                if (factory != this) {
+                    factory.apply(changed);
+                }
+            }
+
+            LogLevelGuard.reset();
+        }
+    }
+
+    /**
+     * Reads configuration properties and configuration file again and applies only changed properties to
+     * loggers of all factories, levels are computed only for loggers of changed packages unless default
+     * level is changed. Reload is called by watcher and by user concurrently, so changes are read once and
+     * applied to all factories under single lock.
+     */
+    static void reload() {
+        synchronized (SimpleLoggerFactory.class) {
+            final Set<String> changed = SimpleLogger.CONFIG.reloadProperties();
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            SimpleLogger.CONFIG.refresh();
+            for (SimpleLoggerFactory factory : FACTORIES) {
+                factory.apply(changed);
+            }
+
+            LogLevelGuard.reset();
+        }
+    }
+
+    private void apply(Set<String> changed) {
+        synchronized (this) {
+            if (changed.contains(SimpleLoggerProperties.DEFAULT_LOG_LEVEL)) {
+                for (SimpleLogger logger : loggerMap.values()) {
+                    computeLogLevel(logger);
+                }
+            } else {
+                for (String property : changed) {
+                    if (property.startsWith(SimpleLoggerProperties.PREFIX_LOG)) {
+                        final String loggerName = property.substring(SimpleLoggerProperties.PREFIX_LOG.length());
+                        levelOverrides.forEachLogger(loggerName, this::computeLogLevel);
+                    }
+                }
+            }
         }
     }
 
@@ -70,6 +367,13 @@ void refresh() {
      * You are strongly discouraged from calling this method in production code.
      */
     void reset() {
-        loggerMap.clear();
+        synchronized (this) {
+            loggerMap.clear();
+            levelOverrides = new LoggerLevelTree();
+            for (LevelExpiration expiration : levelExpirations.values()) {
+                expiration.cancel();
+            }
+            levelExpirations.clear();
+        }
     }
 }
@@ -1,6 +1,11 @@
 package io.goodforgod.slf4j.simplelogger;
 
 import java.time.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Marker;
 import org.slf4j.event.Level;
 
@@ -24,8 +29,10 @@ enum LayoutOrder {
         MARKER,
         ENVIRONMENT,
         THREAD,
+        MDC,
         LOGGER_NAME,
         MESSAGE,
+        KEY_VALUE,
         EVENT_SEPARATOR,
         THROWABLE
     }
@@ -61,10 +68,10 @@ String getEventTime(SimpleLoggingEvent event) {
 
     static class DateTimeLayout extends AbstractTimeLayout {
 
-        private final SimpleLoggerConfiguration configuration;
+        private final SimpleLoggerConfiguration.Snapshot snapshot;
 
-        protected DateTimeLayout(SimpleLoggerConfiguration configuration) {
-            this.configuration = configuration;
+        protected DateTimeLayout(SimpleLoggerConfiguration.Snapshot snapshot) {
+            this.snapshot = snapshot;
         }
 
         @Override
@@ -81,9 +88,9 @@ public void print(SimpleLoggingEvent event) {
         @Override
         String format(long eventCreatMillis) {
             final Instant now = Instant.ofEpochMilli(eventCreatMillis);
-            final ZoneId zoneId = configuration.getZoneId();
+            final ZoneId zoneId = snapshot.getZoneId();
             final LocalDateTime dateTime = LocalDateTime.ofInstant(now, zoneId);
-            return configuration.getDateTimeFormatter().format(dateTime);
+            return snapshot.getDateTimeFormatter().format(dateTime);
         }
 
         @Override
@@ -94,10 +101,10 @@ public int order() {
 
     static class TimeLayout extends AbstractTimeLayout {
 
-        private final SimpleLoggerConfiguration configuration;
+        private final SimpleLoggerConfiguration.Snapshot snapshot;
 
-        protected TimeLayout(SimpleLoggerConfiguration configuration) {
-            this.configuration = configuration;
+        protected TimeLayout(SimpleLoggerConfiguration.Snapshot snapshot) {
+            this.snapshot = snapshot;
         }
 
         @Override
@@ -114,9 +121,9 @@ public void print(SimpleLoggingEvent event) {
         @Override
         String format(long eventCreatMillis) {
             final Instant now = Instant.ofEpochMilli(eventCreatMillis);
-            final ZoneId zoneId = configuration.getZoneId();
+            final ZoneId zoneId = snapshot.getZoneId();
             final LocalTime localTime = LocalTime.ofInstant(now, zoneId);
-            return configuration.getDateTimeFormatter().format(localTime);
+            return snapshot.getDateTimeFormatter().format(localTime);
         }
 
         @Override
@@ -129,7 +136,7 @@ static final class UnixTimeLayout implements Layout {
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append(System.currentTimeMillis());
+            event.append(event.created());
             event.append(' ');
         }
 
@@ -149,7 +156,7 @@ static final class MillisFromStartLayout implements Layout {
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append(System.currentTimeMillis() - configuration.getInitializeTime());
+            event.append(event.created() - configuration.getInitializeTime());
             event.append(' ');
         }
 
@@ -224,24 +231,48 @@ public int order() {
         }
     }
 
+    /**
+     * Marker fragment is cached on {@link SimpleMarker} so marker graph is rendered only when changed
+     */
     static class MarkerLayout implements Layout {
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            if (event.marker() != null) {
-                event.append("[markers=");
-                event.append(event.marker().getName());
-                renderMarkers(event, event.marker());
-                event.append("] ");
+            final Marker marker = event.marker();
+            if (marker == null) {
+                return;
+            }
+
+            if (marker instanceof SimpleMarker) {
+                final SimpleMarker simpleMarker = (SimpleMarker) marker;
+                String fragment = simpleMarker.getTextFragment();
+                if (fragment == null) {
+                    final long version = SimpleMarker.version();
+                    fragment = render(marker);
+                    simpleMarker.setTextFragment(fragment, version);
+                }
+                event.append(fragment);
+            } else {
+                event.append(render(marker));
             }
         }
 
-        private static void renderMarkers(SimpleLoggingEvent event, Marker marker) {
-            marker.iterator().forEachRemaining(m -> {
-                event.append(',');
-                event.append(m.getName());
-                renderMarkers(event, m);
-            });
+        private static String render(Marker marker) {
+            final StringBuilder builder = new StringBuilder("[markers=");
+            builder.append(marker.getName());
+            renderMarkers(builder, marker);
+            builder.append("] ");
+            return builder.toString();
+        }
+
+        private static void renderMarkers(StringBuilder builder, Marker marker) {
+            final Iterator<Marker> references = marker.iterator();
+            while (references.hasNext()) {
+                final Marker reference = references.next();
+                builder.append(',');
+                builder.append(reference.getName());
+                renderMarkers(builder, reference);
+            }
         }
 
         @Override
@@ -271,18 +302,18 @@ public int order() {
 
     static final class EnvironmentLayout implements Layout {
 
-        private final SimpleLoggerConfiguration configuration;
+        private final SimpleLoggerConfiguration.Snapshot snapshot;
 
-        EnvironmentLayout(SimpleLoggerConfiguration configuration) {
-            this.configuration = configuration;
+        EnvironmentLayout(SimpleLoggerConfiguration.Snapshot snapshot) {
+            this.snapshot = snapshot;
         }
 
         @Override
         public void print(SimpleLoggingEvent event) {
             boolean bracketUsed = false;
-            for (String envName : configuration.getEnvironments()) {
+            for (String envName : snapshot.getEnvironments()) {
                 final String envValue = System.getenv(envName);
-                if (envValue == null && !configuration.isEnvironmentShowNullable()) {
+                if (envValue == null && !snapshot.isEnvironmentShowNullable()) {
                     continue;
                 }
 
@@ -293,7 +324,7 @@ public void print(SimpleLoggingEvent event) {
                     event.append(", ");
                 }
 
-                if (configuration.isEnvironmentShowName()) {
+                if (snapshot.isEnvironmentShowName()) {
                     event.append(envName);
                     event.append('=');
                 }
@@ -317,7 +348,7 @@ static final class ThreadLayout implements Layout {
         @Override
         public void print(SimpleLoggingEvent event) {
             event.append('[');
-            event.append(Thread.currentThread().getName());
+            event.append(event.threadName());
             event.append("] ");
         }
 
@@ -345,7 +376,7 @@ static final class MessageLayout implements Layout {
 
         @Override
         public void print(SimpleLoggingEvent event) {
-            event.append(event.message());
+            event.appendMessage(ObjectRenderers.TEXT);
         }
 
         @Override
@@ -354,6 +385,52 @@ public int order() {
         }
     }
 
+    static final class MDCLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final SimpleMDCAdapter.Context context = event.context();
+            if (context == null || context.size() == 0) {
+                return;
+            }
+
+            event.append('[');
+            for (int i = 0; i < context.size(); i++) {
+                if (i != 0) {
+                    event.append(", ");
+                }
+                event.append(context.key(i));
+                event.append('=');
+                event.append(context.value(i));
+            }
+            event.append("] ");
+        }
+
+        @Override
+        public int order() {
+            return LayoutOrder.MDC.ordinal();
+        }
+    }
+
+    static final class KeyValueLayout implements Layout {
+
+        @Override
+        public void print(SimpleLoggingEvent event) {
+            final int count = event.keyValueCount();
+            for (int i = 0; i < count; i++) {
+                event.append(' ');
+                event.append(event.key(i));
+                event.append('=');
+                MessageFormatter.appendArgument(event.getBuilder(), event.value(i), ObjectRenderers.TEXT);
+            }
+        }
+
+        @Override
+        public int order() {
+            return LayoutOrder.KEY_VALUE.ordinal();
+        }
+    }
+
     static final class SeparatorLayout implements Layout {
 
         @Override
@@ -367,14 +444,139 @@ public int order() {
         }
     }
 
+    /**
+     * Renders stack trace same as {@link Throwable#printStackTrace()} does, but directly into event
+     * buffer without {@link java.io.PrintWriter} and with cached stack frames
+     */
     static final class ThrowableLayout implements Layout {
 
+        private static final String LINE_SEPARATOR = System.lineSeparator();
+        private static final String CAPTION_CAUSE = "Caused by: ";
+        private static final String CAPTION_SUPPRESSED = "Suppressed: ";
+
+        private static final int FRAME_CACHE_SIZE_MAX = 4096;
+        private static final Map<StackTraceElement, String> FRAME_CACHE = new ConcurrentHashMap<>();
+
         @Override
         public void print(SimpleLoggingEvent event) {
             final Throwable throwable = event.throwable();
             if (throwable != null) {
-                event.append(throwable);
+                printThrowable(throwable, event.getBuilder());
+            }
+        }
+
+        static void printThrowable(Throwable throwable, StringBuilder builder) {
+            builder.append(throwable).append(LINE_SEPARATOR);
+
+            final StackTraceElement[] traces = throwable.getStackTrace();
+            for (StackTraceElement trace : traces) {
+                printTrace(trace, 0, builder);
+            }
+
+            final Throwable[] suppressed = throwable.getSuppressed();
+            final Throwable cause = throwable.getCause();
+            if (suppressed.length == 0 && cause == null) {
+                return;
+            }
+
+            // Guard against malicious overrides of Throwable.equals by using identity equality
+            final List<Throwable> visited = new ArrayList<>(4);
+            visited.add(throwable);
+            for (Throwable suppressedThrowable : suppressed) {
+                printEnclosedThrowable(suppressedThrowable, builder, traces, CAPTION_SUPPRESSED, 1, visited);
+            }
+
+            if (cause != null) {
+                printEnclosedThrowable(cause, builder, traces, CAPTION_CAUSE, 0, visited);
+            }
+        }
+
+        /**
+         * Print our stack trace as an enclosed exception for the specified stack trace.
+         */
+        private static void printEnclosedThrowable(Throwable throwable,
+                                                   StringBuilder builder,
+                                                   StackTraceElement[] enclosingTrace,
+                                                   String caption,
+                                                   int depth,
+                                                   List<Throwable> visited) {
+            if (isVisited(throwable, visited)) {
+                printPrefix(depth, builder);
+                builder.append(caption).append("[CIRCULAR REFERENCE: ").append(throwable).append(']').append(LINE_SEPARATOR);
+                return;
+            }
+
+            visited.add(throwable);
+
+            // Compute number of frames in common between this and enclosing trace
+            final StackTraceElement[] traces = throwable.getStackTrace();
+            int m = traces.length - 1;
+            int n = enclosingTrace.length - 1;
+            while (m >= 0 && n >= 0 && traces[m].equals(enclosingTrace[n])) {
+                m--;
+                n--;
+            }
+
+            printPrefix(depth, builder);
+            builder.append(caption).append(throwable).append(LINE_SEPARATOR);
+            for (int i = 0; i <= m; i++) {
+                printTrace(traces[i], depth, builder);
+            }
+
+            final int framesInCommon = traces.length - 1 - m;
+            if (framesInCommon != 0) {
+                printPrefix(depth, builder);
+                builder.append("\t... ").append(framesInCommon).append(" more").append(LINE_SEPARATOR);
+            }
+
+            for (Throwable suppressed : throwable.getSuppressed()) {
+                printEnclosedThrowable(suppressed, builder, traces, CAPTION_SUPPRESSED, depth + 1, visited);
+            }
+
+            final Throwable cause = throwable.getCause();
+            if (cause != null) {
+                printEnclosedThrowable(cause, builder, traces, CAPTION_CAUSE, depth, visited);
+            }
+        }
+
+        private static boolean isVisited(Throwable throwable, List<Throwable> visited) {
+            for (Throwable visitedThrowable : visited) {
+                if (visitedThrowable == throwable) {
+                    return true;
+                }
             }
+
+            return false;
+        }
+
+        private static void printPrefix(int depth, StringBuilder builder) {
+            for (int i = 0; i < depth; i++) {
+                builder.append('\t');
+            }
+        }
+
+        private static void printTrace(StackTraceElement trace, int depth, StringBuilder builder) {
+            printPrefix(depth, builder);
+            builder.append("\tat ").append(getTrace(trace)).append(LINE_SEPARATOR);
+        }
+
+        /**
+         * @param trace to render
+         * @return cached {@link StackTraceElement#toString()} result, cache is dropped when full
+         */
+        private static String getTrace(StackTraceElement trace) {
+            final String cached = FRAME_CACHE.get(trace);
+            if (cached != null) {
+                return cached;
+            }
+
+            final String rendered = trace.toString();
+            if (FRAME_CACHE.size() >= FRAME_CACHE_SIZE_MAX) {
+                FRAME_CACHE.clear();
+            }
+
+            FRAME_CACHE.put(trace, rendered);
+            return rendered;
         }
 
         @Override
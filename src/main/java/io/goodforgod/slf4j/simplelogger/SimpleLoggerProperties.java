@@ -19,12 +19,46 @@ public enum DateTimeOutputType {
 
     public enum OutputFormat {
         TEXT,
-        JSON
+        JSON,
+        /**
+         * Logfmt <code>key=value</code> pairs, values are quoted only when required
+         */
+        LOGFMT,
+        /**
+         * Length prefixed binary frames without rendering, decoded into TEXT or JSON with
+         * {@link BinaryLogDecoder}
+         */
+        BINARY
     }
 
-    private static final String PREFIX = "org.slf4j.simpleLogger.";
+    /**
+     * Presets of JSON field names, each field can be renamed additionally with
+     * {@link #PREFIX_JSON_FIELD} properties
+     */
+    public enum JsonFieldsPreset {
+        DEFAULT,
+        /**
+         * Elastic Common Schema
+         */
+        ECS,
+        /**
+         * Field names of Graylog Extended Log Format for Graylog JSON extractors, only names are changed,
+         * so output is not GELF message (no version and host fields, level and timestamp keep their values)
+         */
+        GRAYLOG,
+        /**
+         * OpenTelemetry log data model
+         */
+        OTEL
+    }
+
+    static final String PREFIX = "org.slf4j.simpleLogger.";
 
     public static final String PREFIX_LOG = PREFIX + "log.";
+    public static final String PREFIX_RATE_LIMIT = PREFIX + "rateLimit.";
+
+    public static final String CONFIGURATION_FILE = PREFIX + "configurationFile";
+    public static final String CONFIGURATION_FILE_WATCH = PREFIX + "configurationFileWatch";
 
     public static final String CACHE_OUTPUT_STREAM_STRING = PREFIX + "cacheOutputStream";
     public static final String LOG_FILE = PREFIX + "logFile";
@@ -32,7 +66,11 @@ public enum OutputFormat {
     public static final String LOG_FILE_ERROR = PREFIX + "logFileError";
 
     public static final String FORMAT = PREFIX + "format";
+    public static final String DEFERRED_FORMATTING = PREFIX + "deferredFormatting";
+    public static final String DEFERRED_FORMATTING_QUEUE_SIZE = PREFIX + "deferredFormattingQueueSize";
     public static final String CHARSET = PREFIX + "charset";
+    public static final String JSON_FIELDS = PREFIX + "jsonFields";
+    public static final String PREFIX_JSON_FIELD = PREFIX + "jsonField.";
 
     public static final String LEVEL_IN_BRACKETS = PREFIX + "levelInBrackets";
     public static final String SHOW_SHORT_LOG_NAME = PREFIX + "showShortLogName";
@@ -40,6 +78,7 @@ public enum OutputFormat {
     public static final String SHOW_LOG_NAME_LENGTH = PREFIX + "logNameLength";
     public static final String SHOW_THREAD_NAME = PREFIX + "showThreadName";
     public static final String SHOW_MARKERS = PREFIX + "showMarkers";
+    public static final String SHOW_MDC = PREFIX + "showMDC";
     public static final String SHOW_IMPLEMENTATION_VERSION = PREFIX + "showImplementationVersion";
 
     public static final String ENVIRONMENTS = PREFIX + "environments";
@@ -1,6 +1,9 @@
 package io.goodforgod.slf4j.simplelogger;
 
-import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.UUID;
 import org.slf4j.Marker;
 import org.slf4j.event.Level;
 
@@ -8,10 +11,15 @@
  * @author Anton Kurako (GoodforGod)
  * @since 27.03.2022
  */
-final class SimpleLoggingEvent {
+final class SimpleLoggingEvent implements MessageFormatter.Arguments {
+
+    static final byte ARGUMENT_OBJECT = 0;
+    static final byte ARGUMENT_LONG = 1;
+    static final byte ARGUMENT_DOUBLE = 2;
 
     private final StringBuilder builder = new StringBuilder();
-    private final long created = System.currentTimeMillis();
+    private final long created;
+    private final String threadName;
 
     private final String loggerName;
     private final Level level;
@@ -19,7 +27,49 @@ final class SimpleLoggingEvent {
     private final Marker marker;
     private final Throwable throwable;
 
+    /**
+     * Message arguments are formatted only when message is printed directly into {@link #builder}
+     */
+    private Object[] arguments;
+    private int argumentCount;
+
+    /**
+     * First two arguments are kept in typed slots, so primitive arguments are not boxed
+     */
+    private Object argument1;
+    private Object argument2;
+    private long primitive1;
+    private long primitive2;
+    private byte argumentType1 = ARGUMENT_OBJECT;
+    private byte argumentType2 = ARGUMENT_OBJECT;
+
+    /**
+     * Key value pairs are referenced as is, event is printed before their owner reuses them or it is
+     * captured with {@link #capture(ObjectRenderers)}
+     */
+    private String[] keys;
+    private Object[] values;
+    private int keyValueCount;
+
+    private SimpleMDCAdapter.Context context;
+
     SimpleLoggingEvent(String loggerName, Level level, String message, Marker marker, Throwable throwable) {
+        this(loggerName, level, message, marker, throwable, System.currentTimeMillis(), Thread.currentThread().getName());
+    }
+
+    /**
+     * @param created    time when event was created originally
+     * @param threadName of thread that created event originally
+     */
+    SimpleLoggingEvent(String loggerName,
+                       Level level,
+                       String message,
+                       Marker marker,
+                       Throwable throwable,
+                       long created,
+                       String threadName) {
+        this.created = created;
+        this.threadName = threadName;
         this.loggerName = loggerName;
         this.level = level;
         this.message = message;
@@ -27,10 +77,238 @@ final class SimpleLoggingEvent {
         this.throwable = throwable;
     }
 
-    void append(Throwable throwable) {
-        final StringBuilderWriter stringWriter = new StringBuilderWriter(builder);
-        final PrintWriter printWriter = new PrintWriter(stringWriter);
-        throwable.printStackTrace(printWriter);
+    void setArgument(int index, Object argument) {
+        if (index == 0) {
+            this.argument1 = argument;
+            this.argumentType1 = ARGUMENT_OBJECT;
+        } else {
+            this.argument2 = argument;
+            this.argumentType2 = ARGUMENT_OBJECT;
+        }
+
+        this.argumentCount = Math.max(argumentCount, index + 1);
+    }
+
+    void setArgument(int index, long argument) {
+        if (index == 0) {
+            this.primitive1 = argument;
+            this.argumentType1 = ARGUMENT_LONG;
+        } else {
+            this.primitive2 = argument;
+            this.argumentType2 = ARGUMENT_LONG;
+        }
+
+        this.argumentCount = Math.max(argumentCount, index + 1);
+    }
+
+    void setArgument(int index, double argument) {
+        if (index == 0) {
+            this.primitive1 = Double.doubleToRawLongBits(argument);
+            this.argumentType1 = ARGUMENT_DOUBLE;
+        } else {
+            this.primitive2 = Double.doubleToRawLongBits(argument);
+            this.argumentType2 = ARGUMENT_DOUBLE;
+        }
+
+        this.argumentCount = Math.max(argumentCount, index + 1);
+    }
+
+    /**
+     * @param arguments     to format message with
+     * @param argumentCount number of arguments to use from array
+     */
+    void setArguments(Object[] arguments, int argumentCount) {
+        this.arguments = arguments;
+        this.argumentCount = argumentCount;
+    }
+
+    /**
+     * @param keys          of key value pairs
+     * @param values        of key value pairs
+     * @param keyValueCount number of key value pairs to use from arrays
+     */
+    void setKeyValues(String[] keys, Object[] values, int keyValueCount) {
+        this.keys = keys;
+        this.values = values;
+        this.keyValueCount = keyValueCount;
+    }
+
+    /**
+     * @param context MDC snapshot captured when event was created
+     */
+    void setContext(SimpleMDCAdapter.Context context) {
+        this.context = context;
+    }
+
+    SimpleMDCAdapter.Context context() {
+        return context;
+    }
+
+    int keyValueCount() {
+        return keyValueCount;
+    }
+
+    String key(int index) {
+        return keys[index];
+    }
+
+    Object value(int index) {
+        return values[index];
+    }
+
+    /**
+     * Captures arguments and key values, so event can be printed later on other thread, while caller
+     * reuses or mutates them. Immutable values are kept as is and other values, including maps and
+     * collections with their elements, are rendered with their own type as they would be printed, key
+     * values of JSON format are rendered as JSON values.
+     *
+     * @param renderers to render mutable values with
+     */
+    void capture(ObjectRenderers renderers) {
+        if (arguments != null) {
+            final Object[] captured = new Object[argumentCount];
+            for (int i = 0; i < argumentCount; i++) {
+                captured[i] = captureValue(arguments[i], renderers);
+            }
+            this.arguments = captured;
+        } else {
+            if (argumentType1 == ARGUMENT_OBJECT) {
+                this.argument1 = captureValue(argument1, renderers);
+            }
+            if (argumentType2 == ARGUMENT_OBJECT) {
+                this.argument2 = captureValue(argument2, renderers);
+            }
+        }
+
+        if (keyValueCount > 0) {
+            final Object[] captured = new Object[keyValueCount];
+            for (int i = 0; i < keyValueCount; i++) {
+                captured[i] = captureKeyValue(values[i], renderers);
+            }
+            this.keys = Arrays.copyOf(keys, keyValueCount);
+            this.values = captured;
+        }
+    }
+
+    private static Object captureValue(Object value, ObjectRenderers renderers) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+
+        final StringBuilder rendered = new StringBuilder();
+        MessageFormatter.appendArgument(rendered, value, renderers);
+        return rendered.toString();
+    }
+
+    private static Object captureKeyValue(Object value, ObjectRenderers renderers) {
+        if (value == null || isImmutable(value) || !renderers.isJson()) {
+            return captureValue(value, renderers);
+        }
+
+        final StringBuilder rendered = new StringBuilder();
+        MessageFormatter.appendJsonValue(rendered, value, renderers);
+        return new ObjectRenderers.RenderedJson(rendered.toString());
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof Enum
+                || value instanceof UUID
+                || (value instanceof BigDecimal && value.getClass() == BigDecimal.class)
+                || (value instanceof BigInteger && value.getClass() == BigInteger.class)
+                || value.getClass().getName().startsWith("java.time.");
+    }
+
+    /**
+     * Formats message with its arguments directly into event buffer
+     */
+    void appendMessage(ObjectRenderers renderers) {
+        if (arguments != null) {
+            MessageFormatter.formatArray(builder, message, arguments, argumentCount, renderers);
+        } else if (argumentCount == 0) {
+            builder.append(message);
+        } else if (argumentType1 != ARGUMENT_OBJECT || argumentType2 != ARGUMENT_OBJECT) {
+            MessageFormatter.format(builder, message, this, renderers);
+        } else if (argumentCount == 1) {
+            MessageFormatter.format(builder, message, argument1, renderers);
+        } else {
+            MessageFormatter.format(builder, message, argument1, argument2, renderers);
+        }
+    }
+
+    @Override
+    public int count() {
+        return argumentCount;
+    }
+
+    /**
+     * @param index of argument
+     * @return {@link #ARGUMENT_OBJECT}, {@link #ARGUMENT_LONG} or {@link #ARGUMENT_DOUBLE}
+     */
+    byte argumentType(int index) {
+        if (arguments != null) {
+            return ARGUMENT_OBJECT;
+        }
+
+        return (index == 0)
+                ? argumentType1
+                : argumentType2;
+    }
+
+    /**
+     * @param index of argument with {@link #ARGUMENT_LONG} type or raw bits of {@link #ARGUMENT_DOUBLE}
+     * @return primitive argument
+     */
+    long primitiveArgument(int index) {
+        return (index == 0)
+                ? primitive1
+                : primitive2;
+    }
+
+    /**
+     * @param index of argument with {@link #ARGUMENT_OBJECT} type
+     * @return object argument
+     */
+    Object objectArgument(int index) {
+        if (arguments != null) {
+            return arguments[index];
+        }
+
+        return (index == 0)
+                ? argument1
+                : argument2;
+    }
+
+    @Override
+    public void appendArgument(StringBuilder builder, int index, ObjectRenderers renderers) {
+        final byte type = (index == 0)
+                ? argumentType1
+                : argumentType2;
+
+        final long primitive = (index == 0)
+                ? primitive1
+                : primitive2;
+
+        switch (type) {
+            case ARGUMENT_LONG:
+                builder.append(primitive);
+                break;
+            case ARGUMENT_DOUBLE:
+                builder.append(Double.longBitsToDouble(primitive));
+                break;
+            default:
+                MessageFormatter.appendArgument(builder, (index == 0)
+                        ? argument1
+                        : argument2, renderers);
+        }
     }
 
     StringBuilder getBuilder() {
@@ -53,6 +331,10 @@ long created() {
         return created;
     }
 
+    String threadName() {
+        return threadName;
+    }
+
     String logger() {
         return loggerName;
     }
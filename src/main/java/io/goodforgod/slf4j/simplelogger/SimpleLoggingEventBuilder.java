@@ -0,0 +1,196 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * {@link LoggingEventBuilder} that builds {@link SimpleLoggingEvent} directly without intermediate
+ * {@link org.slf4j.event.LoggingEvent}, builder is reused per thread and is created only for enabled
+ * levels.
+ * <p>
+ * Builder is reused when it is not in use by the same thread, builders that are not finished with
+ * {@link #log()} are not reused, so such builders are allocated the same way as nested builders are.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class SimpleLoggingEventBuilder implements LoggingEventBuilder {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static final ThreadLocal<SimpleLoggingEventBuilder> BUILDERS = ThreadLocal
+            .withInitial(SimpleLoggingEventBuilder::new);
+
+    private SimpleLogger logger;
+    private Level level;
+    private boolean inUse;
+
+    private String message;
+    private Marker marker;
+    private Throwable throwable;
+
+    private Object[] arguments = new Object[INITIAL_CAPACITY];
+    private int argumentCount;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int keyValueCount;
+
+    private SimpleLoggingEventBuilder() {}
+
+    /**
+     * @param logger to log event with
+     * @param level  enabled level to log event with
+     * @return thread builder if it is not in use or new builder
+     */
+    static SimpleLoggingEventBuilder get(SimpleLogger logger, Level level) {
+        final SimpleLoggingEventBuilder threadBuilder = BUILDERS.get();
+        final SimpleLoggingEventBuilder builder = (threadBuilder.inUse)
+                ? new SimpleLoggingEventBuilder()
+                : threadBuilder;
+
+        builder.logger = logger;
+        builder.level = level;
+        builder.inUse = true;
+        return builder;
+    }
+
+    @Override
+    public LoggingEventBuilder setCause(Throwable cause) {
+        this.throwable = cause;
+        return this;
+    }
+
+    /**
+     * Event holds single marker, so only first added marker is logged
+     */
+    @Override
+    public LoggingEventBuilder addMarker(Marker marker) {
+        if (this.marker == null) {
+            this.marker = marker;
+        }
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(Object argument) {
+        if (argumentCount == arguments.length) {
+            arguments = Arrays.copyOf(arguments, argumentCount * 2);
+        }
+
+        arguments[argumentCount++] = argument;
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(Supplier<?> objectSupplier) {
+        return addArgument(objectSupplier.get());
+    }
+
+    @Override
+    public LoggingEventBuilder addKeyValue(String key, Object value) {
+        if (keyValueCount == keys.length) {
+            keys = Arrays.copyOf(keys, keyValueCount * 2);
+            values = Arrays.copyOf(values, keyValueCount * 2);
+        }
+
+        keys[keyValueCount] = key;
+        values[keyValueCount] = value;
+        keyValueCount++;
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addKeyValue(String key, Supplier<Object> valueSupplier) {
+        return addKeyValue(key, valueSupplier.get());
+    }
+
+    @Override
+    public LoggingEventBuilder setMessage(String message) {
+        this.message = message;
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder setMessage(Supplier<String> messageSupplier) {
+        this.message = messageSupplier.get();
+        return this;
+    }
+
+    @Override
+    public void log() {
+        try {
+            Throwable cause = throwable;
+            int count = argumentCount;
+            if (cause == null && count > 0 && arguments[count - 1] instanceof Throwable) {
+                cause = (Throwable) arguments[count - 1];
+                count--;
+            }
+
+            final SimpleLoggingEvent event = logger.createEvent(level, message, marker, cause);
+            if (count > 0) {
+                event.setArguments(arguments, count);
+            }
+            if (keyValueCount > 0) {
+                event.setKeyValues(keys, values, keyValueCount);
+            }
+
+            logger.log(event);
+        } finally {
+            clear();
+        }
+    }
+
+    @Override
+    public void log(String message) {
+        setMessage(message);
+        log();
+    }
+
+    @Override
+    public void log(String format, Object arg) {
+        setMessage(format);
+        addArgument(arg);
+        log();
+    }
+
+    @Override
+    public void log(String format, Object arg1, Object arg2) {
+        setMessage(format);
+        addArgument(arg1);
+        addArgument(arg2);
+        log();
+    }
+
+    @Override
+    public void log(String format, Object... args) {
+        setMessage(format);
+        for (Object arg : args) {
+            addArgument(arg);
+        }
+        log();
+    }
+
+    @Override
+    public void log(Supplier<String> messageSupplier) {
+        setMessage(messageSupplier);
+        log();
+    }
+
+    private void clear() {
+        Arrays.fill(arguments, 0, argumentCount, null);
+        Arrays.fill(keys, 0, keyValueCount, null);
+        Arrays.fill(values, 0, keyValueCount, null);
+        argumentCount = 0;
+        keyValueCount = 0;
+        logger = null;
+        level = null;
+        message = null;
+        marker = null;
+        throwable = null;
+        inUse = false;
+    }
+}
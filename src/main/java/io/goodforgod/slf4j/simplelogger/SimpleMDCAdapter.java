@@ -0,0 +1,219 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.spi.MDCAdapter;
+
+/**
+ * MDC adapter where each thread holds immutable {@link Context} that is replaced on each change, so
+ * logging event captures context snapshot by reference without any copying.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class SimpleMDCAdapter implements MDCAdapter {
+
+    /**
+     * Immutable context map backed by key and value arrays, MDC usually holds just a few entries so
+     * linear lookup is cheaper than hashing
+     */
+    static final class Context {
+
+        static final Context EMPTY = new Context(new String[0], new String[0]);
+
+        private final String[] keys;
+        private final String[] values;
+
+        private Context(String[] keys, String[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        String key(int index) {
+            return keys[index];
+        }
+
+        String value(int index) {
+            return values[index];
+        }
+
+        String get(String key) {
+            final int index = indexOf(key);
+            return (index == -1)
+                    ? null
+                    : values[index];
+        }
+
+        Context put(String key, String value) {
+            final int index = indexOf(key);
+            if (index != -1) {
+                final String[] newValues = values.clone();
+                newValues[index] = value;
+                return new Context(keys, newValues);
+            }
+
+            final String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            final String[] newValues = Arrays.copyOf(values, values.length + 1);
+            newKeys[keys.length] = key;
+            newValues[values.length] = value;
+            return new Context(newKeys, newValues);
+        }
+
+        Context remove(String key) {
+            final int index = indexOf(key);
+            if (index == -1) {
+                return this;
+            } else if (keys.length == 1) {
+                return EMPTY;
+            }
+
+            final String[] newKeys = new String[keys.length - 1];
+            final String[] newValues = new String[values.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+            return new Context(newKeys, newValues);
+        }
+
+        private int indexOf(String key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+
+    private static final ThreadLocal<Context> CONTEXTS = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, Deque<String>>> DEQUES = new ThreadLocal<>();
+
+    /**
+     * @return current thread context snapshot
+     */
+    static Context getContext() {
+        final Context context = CONTEXTS.get();
+        return (context == null)
+                ? Context.EMPTY
+                : context;
+    }
+
+    @Override
+    public void put(String key, String val) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+
+        CONTEXTS.set(getContext().put(key, val));
+    }
+
+    @Override
+    public String get(String key) {
+        return getContext().get(key);
+    }
+
+    @Override
+    public void remove(String key) {
+        final Context context = CONTEXTS.get();
+        if (context != null) {
+            final Context removed = context.remove(key);
+            if (removed == Context.EMPTY) {
+                CONTEXTS.remove();
+            } else {
+                CONTEXTS.set(removed);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        CONTEXTS.remove();
+    }
+
+    @Override
+    public Map<String, String> getCopyOfContextMap() {
+        final Context context = CONTEXTS.get();
+        if (context == null) {
+            return null;
+        }
+
+        final Map<String, String> copy = new HashMap<>(context.size() * 2);
+        for (int i = 0; i < context.size(); i++) {
+            copy.put(context.key(i), context.value(i));
+        }
+        return copy;
+    }
+
+    @Override
+    public void setContextMap(Map<String, String> contextMap) {
+        if (contextMap == null || contextMap.isEmpty()) {
+            CONTEXTS.remove();
+            return;
+        }
+
+        Context context = Context.EMPTY;
+        for (Map.Entry<String, String> entry : contextMap.entrySet()) {
+            if (entry.getKey() != null) {
+                context = context.put(entry.getKey(), entry.getValue());
+            }
+        }
+        CONTEXTS.set(context);
+    }
+
+    @Override
+    public void pushByKey(String key, String value) {
+        Map<String, Deque<String>> deques = DEQUES.get();
+        if (deques == null) {
+            deques = new HashMap<>();
+            DEQUES.set(deques);
+        }
+
+        deques.computeIfAbsent(key, k -> new ArrayDeque<>()).push(value);
+    }
+
+    @Override
+    public String popByKey(String key) {
+        final Map<String, Deque<String>> deques = DEQUES.get();
+        if (deques == null) {
+            return null;
+        }
+
+        final Deque<String> deque = deques.get(key);
+        return (deque == null)
+                ? null
+                : deque.pollFirst();
+    }
+
+    @Override
+    public Deque<String> getCopyOfDequeByKey(String key) {
+        final Map<String, Deque<String>> deques = DEQUES.get();
+        if (deques == null) {
+            return null;
+        }
+
+        final Deque<String> deque = deques.get(key);
+        return (deque == null)
+                ? null
+                : new ArrayDeque<>(deque);
+    }
+
+    @Override
+    public void clearDequeByKey(String key) {
+        final Map<String, Deque<String>> deques = DEQUES.get();
+        if (deques != null) {
+            final Deque<String> deque = deques.get(key);
+            if (deque != null) {
+                deque.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Marker;
+
+/**
+ * Marker analog to {@link org.slf4j.helpers.BasicMarker} that caches its rendered layout fragments,
+ * fragments are valid while no marker references were changed since they were rendered.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class SimpleMarker implements Marker {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String OPEN = "[ ";
+    private static final String CLOSE = " ]";
+    private static final String SEPARATOR = ", ";
+
+    /**
+     * Version of all markers references, marker fragment depends on references of referenced markers,
+     * so any reference change invalidates all fragments
+     */
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private static final class Fragment {
+
+        private final long version;
+        private final String value;
+
+        private Fragment(long version, String value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+
+    private final String name;
+    private final List<Marker> references = new CopyOnWriteArrayList<>();
+
+    private transient volatile Fragment textFragment;
+    private transient volatile Fragment jsonFragment;
+
+    SimpleMarker(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("A marker name cannot be null");
+        }
+        this.name = name;
+    }
+
+    /**
+     * @return current version to render fragment with, should be taken before fragment is rendered
+     */
+    static long version() {
+        return VERSION.get();
+    }
+
+    /**
+     * @return cached text fragment if it is still valid or null
+     */
+    String getTextFragment() {
+        final Fragment fragment = textFragment;
+        return (fragment != null && fragment.version == VERSION.get())
+                ? fragment.value
+                : null;
+    }
+
+    void setTextFragment(String value, long version) {
+        this.textFragment = new Fragment(version, value);
+    }
+
+    /**
+     * @return cached JSON fragment if it is still valid or null
+     */
+    String getJsonFragment() {
+        final Fragment fragment = jsonFragment;
+        return (fragment != null && fragment.version == VERSION.get())
+                ? fragment.value
+                : null;
+    }
+
+    void setJsonFragment(String value, long version) {
+        this.jsonFragment = new Fragment(version, value);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void add(Marker reference) {
+        if (reference == null) {
+            throw new IllegalArgumentException("A null value cannot be added to a Marker as reference.");
+        }
+
+        // no point in adding the reference multiple times or adding a reference that contains this marker
+        if (this.contains(reference) || reference.contains(this)) {
+            return;
+        }
+
+        references.add(reference);
+        VERSION.incrementAndGet();
+    }
+
+    @Override
+    public boolean remove(Marker referenceToRemove) {
+        final boolean removed = references.remove(referenceToRemove);
+        if (removed) {
+            VERSION.incrementAndGet();
+        }
+        return removed;
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasChildren() {
+        return hasReferences();
+    }
+
+    @Override
+    public boolean hasReferences() {
+        return !references.isEmpty();
+    }
+
+    @Override
+    public Iterator<Marker> iterator() {
+        return references.iterator();
+    }
+
+    @Override
+    public boolean contains(Marker other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Other cannot be null");
+        }
+
+        if (this.equals(other)) {
+            return true;
+        }
+
+        for (Marker reference : references) {
+            if (reference.contains(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Other cannot be null");
+        }
+
+        if (this.name.equals(name)) {
+            return true;
+        }
+
+        for (Marker reference : references) {
+            if (reference.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Marker)) {
+            return false;
+        }
+
+        return name.equals(((Marker) o).getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (!this.hasReferences()) {
+            return this.getName();
+        }
+
+        final StringBuilder builder = new StringBuilder(this.getName()).append(' ').append(OPEN);
+        final Iterator<Marker> iterator = this.iterator();
+        while (iterator.hasNext()) {
+            builder.append(iterator.next().getName());
+            if (iterator.hasNext()) {
+                builder.append(SEPARATOR);
+            }
+        }
+        builder.append(CLOSE);
+        return builder.toString();
+    }
+}
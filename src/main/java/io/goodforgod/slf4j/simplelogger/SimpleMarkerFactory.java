@@ -0,0 +1,48 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Marker;
+
+/**
+ * Marker factory analog to {@link org.slf4j.helpers.BasicMarkerFactory} that creates
+ * {@link SimpleMarker} with cached layout fragments
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class SimpleMarkerFactory implements IMarkerFactory {
+
+    private final ConcurrentMap<String, Marker> markerMap = new ConcurrentHashMap<>();
+
+    @Override
+    public Marker getMarker(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Marker name cannot be null");
+        }
+
+        return markerMap.computeIfAbsent(name, SimpleMarker::new);
+    }
+
+    @Override
+    public boolean exists(String name) {
+        if (name == null) {
+            return false;
+        }
+        return markerMap.containsKey(name);
+    }
+
+    @Override
+    public boolean detachMarker(String name) {
+        if (name == null) {
+            return false;
+        }
+        return markerMap.remove(name) != null;
+    }
+
+    @Override
+    public Marker getDetachedMarker(String name) {
+        return new SimpleMarker(name);
+    }
+}
@@ -2,8 +2,6 @@
 
 import org.slf4j.ILoggerFactory;
 import org.slf4j.IMarkerFactory;
-import org.slf4j.helpers.BasicMarkerFactory;
-import org.slf4j.helpers.NOPMDCAdapter;
 import org.slf4j.spi.MDCAdapter;
 import org.slf4j.spi.SLF4JServiceProvider;
 
@@ -42,7 +40,7 @@ public String getRequestedApiVersion() {
     @Override
     public void initialize() {
         loggerFactory = new SimpleLoggerFactory();
-        markerFactory = new BasicMarkerFactory();
-        mdcAdapter = new NOPMDCAdapter();
+        markerFactory = new SimpleMarkerFactory();
+        mdcAdapter = new SimpleMDCAdapter();
     }
 }
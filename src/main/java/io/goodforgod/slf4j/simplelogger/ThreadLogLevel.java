@@ -0,0 +1,54 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread scoped log level that enables more verbose levels for all loggers only in current thread,
+ * thread level is consulted only when any thread has level set, so loggers check single counter when
+ * there is no thread level set anywhere.
+ * <p>
+ * Thread level can only enable levels, it does not disable levels that are enabled for logger.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class ThreadLogLevel {
+
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+    private static final ThreadLocal<int[]> LEVELS = ThreadLocal
+            .withInitial(() -> new int[] { LoggerLevelTree.LEVEL_UNDEFINED });
+
+    private ThreadLogLevel() {}
+
+    /**
+     * @param logLevel to check
+     * @return true if any thread has thread level and current thread level enables such level
+     */
+    static boolean isEnabled(int logLevel) {
+        if (ACTIVE.get() == 0) {
+            return false;
+        }
+
+        final int threadLevel = LEVELS.get()[0];
+        return threadLevel != LoggerLevelTree.LEVEL_UNDEFINED && logLevel >= threadLevel;
+    }
+
+    /**
+     * @param logLevel to set for current thread while runnable is running
+     * @param runnable to run
+     */
+    static void run(int logLevel, Runnable runnable) {
+        LogLevelGuard.lowerForThread(logLevel);
+        final int[] threadLevel = LEVELS.get();
+        final int previous = threadLevel[0];
+        threadLevel[0] = logLevel;
+        ACTIVE.incrementAndGet();
+        try {
+            runnable.run();
+        } finally {
+            ACTIVE.decrementAndGet();
+            threadLevel[0] = previous;
+            LogLevelGuard.releaseForThread();
+        }
+    }
+}
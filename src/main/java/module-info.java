@@ -3,5 +3,9 @@
     requires org.slf4j;
     requires static io.goodforgod.graalvm.hint.annotations;
 
+    exports io.goodforgod.slf4j.simplelogger;
+
+    uses io.goodforgod.slf4j.simplelogger.ObjectRenderer;
+
     provides org.slf4j.spi.SLF4JServiceProvider with io.goodforgod.slf4j.simplelogger.SimpleServiceProvider;
 }
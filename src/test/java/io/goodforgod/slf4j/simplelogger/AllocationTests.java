@@ -0,0 +1,174 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.*;
+import org.slf4j.Marker;
+
+/**
+ * Allocation regression tests, disabled level calls must not allocate and enabled events must fit
+ * per event byte budget for whole {@link SimpleLogger#log(SimpleLoggingEvent)} -> {@link Layout#print}
+ * -> {@link EventWriter#write} path.
+ */
+class AllocationTests extends Assertions {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 10_000;
+    private static final int MEASUREMENTS = 3;
+
+    /**
+     * Budgets have about 25% headroom over measured allocations, event is mostly its builder and encoded
+     * bytes while throwable event also holds printed stack trace of {@link #throwable()}
+     */
+    private static final long EVENT_BUDGET = 1024;
+    private static final long THROWABLE_EVENT_BUDGET = 3584;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+
+    private final PrintStream original = System.out;
+
+    @BeforeEach
+    public void setup() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setOut(original);
+        SimpleLoggerTests.clearProperties();
+        SimpleLogger.init();
+    }
+
+    @Test
+    void disabledLevelsDoNotAllocate() {
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.allocation.Disabled");
+        final Marker marker = new SimpleMarker("MARKER");
+        final Object arg = "argument";
+        final Object[] args = { "first", "second", "third" };
+        final Throwable throwable = new IllegalStateException("disabled");
+
+        final Map<String, Runnable> calls = new LinkedHashMap<>();
+        calls.put("isTraceEnabled", logger::isTraceEnabled);
+        calls.put("trace(String)", () -> logger.trace("message"));
+        calls.put("trace(String, Object)", () -> logger.trace("message {}", arg));
+        calls.put("trace(String, Object, Object)", () -> logger.trace("message {} {}", arg, arg));
+        calls.put("trace(String, Object...)", () -> logger.trace("message {} {} {}", args));
+        calls.put("trace(String, Throwable)", () -> logger.trace("message", throwable));
+        calls.put("trace(String, long)", () -> logger.trace("message {}", 42L));
+        calls.put("trace(String, double)", () -> logger.trace("message {}", 4.2));
+        calls.put("trace(String, long, long)", () -> logger.trace("message {} {}", 4L, 2L));
+        calls.put("trace(String, long, double)", () -> logger.trace("message {} {}", 4L, 2.0));
+        calls.put("trace(String, double, long)", () -> logger.trace("message {} {}", 4.0, 2L));
+        calls.put("trace(String, double, double)", () -> logger.trace("message {} {}", 4.0, 2.0));
+        calls.put("trace(String, Object, long)", () -> logger.trace("message {} {}", arg, 2L));
+        calls.put("trace(String, long, Object)", () -> logger.trace("message {} {}", 4L, arg));
+        calls.put("trace(String, Object, double)", () -> logger.trace("message {} {}", arg, 2.0));
+        calls.put("trace(String, double, Object)", () -> logger.trace("message {} {}", 4.0, arg));
+        calls.put("trace(Marker, String)", () -> logger.trace(marker, "message"));
+        calls.put("trace(Marker, String, Object)", () -> logger.trace(marker, "message {}", arg));
+        calls.put("trace(Marker, String, Object, Object)", () -> logger.trace(marker, "message {} {}", arg, arg));
+        calls.put("trace(Marker, String, Object...)", () -> logger.trace(marker, "message {} {} {}", args));
+        calls.put("trace(Marker, String, Throwable)", () -> logger.trace(marker, "message", throwable));
+        calls.put("debug(String)", () -> logger.debug("message"));
+        calls.put("debug(String, Object)", () -> logger.debug("message {}", arg));
+        calls.put("debug(String, Object, Object)", () -> logger.debug("message {} {}", arg, arg));
+        calls.put("debug(String, Object...)", () -> logger.debug("message {} {} {}", args));
+        calls.put("debug(String, Throwable)", () -> logger.debug("message", throwable));
+        calls.put("debug(String, long)", () -> logger.debug("message {}", 42L));
+        calls.put("debug(String, double)", () -> logger.debug("message {}", 4.2));
+        calls.put("debug(String, long, long)", () -> logger.debug("message {} {}", 4L, 2L));
+        calls.put("debug(String, long, double)", () -> logger.debug("message {} {}", 4L, 2.0));
+        calls.put("debug(String, double, long)", () -> logger.debug("message {} {}", 4.0, 2L));
+        calls.put("debug(String, double, double)", () -> logger.debug("message {} {}", 4.0, 2.0));
+        calls.put("debug(String, Object, long)", () -> logger.debug("message {} {}", arg, 2L));
+        calls.put("debug(String, long, Object)", () -> logger.debug("message {} {}", 4L, arg));
+        calls.put("debug(String, Object, double)", () -> logger.debug("message {} {}", arg, 2.0));
+        calls.put("debug(String, double, Object)", () -> logger.debug("message {} {}", 4.0, arg));
+        calls.put("debug(Marker, String, Object)", () -> logger.debug(marker, "message {}", arg));
+        calls.put("atTrace()", () -> logger.atTrace().addKeyValue("key", arg).log("message"));
+        calls.put("atDebug()", () -> logger.atDebug().addArgument(arg).log("message {}"));
+
+        for (Map.Entry<String, Runnable> call : calls.entrySet()) {
+            final long bytes = allocatedBytes(call.getValue());
+            assertEquals(0, bytes, call.getKey() + " allocated bytes for " + ITERATIONS + " calls");
+        }
+    }
+
+    @Test
+    void textEventsFitBudget() {
+        SimpleLogger.init();
+        assertEventBudgets(new SimpleLogger("io.goodforgod.allocation.Text"));
+    }
+
+    @Test
+    void jsonEventsFitBudget() {
+        System.setProperty(SimpleLoggerProperties.FORMAT, "JSON");
+        SimpleLogger.init();
+        assertEventBudgets(new SimpleLogger("io.goodforgod.allocation.Json"));
+    }
+
+    private static void assertEventBudgets(SimpleLogger logger) {
+        final Object arg = "argument";
+        final Throwable throwable = throwable();
+
+        final long noArgs = allocatedBytes(() -> logger.info("message without arguments")) / ITERATIONS;
+        assertTrue(noArgs <= EVENT_BUDGET, "No arguments event allocated " + noArgs + " bytes, budget " + EVENT_BUDGET);
+
+        final long args = allocatedBytes(() -> logger.info("message {} and {}", arg, 42L)) / ITERATIONS;
+        assertTrue(args <= EVENT_BUDGET, "Arguments event allocated " + args + " bytes, budget " + EVENT_BUDGET);
+
+        final long withThrowable = allocatedBytes(() -> logger.info("message with throwable", throwable)) / ITERATIONS;
+        assertTrue(withThrowable <= THROWABLE_EVENT_BUDGET,
+                "Throwable event allocated " + withThrowable + " bytes, budget " + THROWABLE_EVENT_BUDGET);
+    }
+
+    /**
+     * Stack trace is fixed, so printed trace size does not depend on depth of test runner stack
+     */
+    private static Throwable throwable() {
+        final Throwable throwable = new IllegalStateException("enabled");
+        throwable.setStackTrace(new StackTraceElement[] {
+                new StackTraceElement("io.goodforgod.allocation.Service", "process", "Service.java", 42),
+                new StackTraceElement("io.goodforgod.allocation.Service", "handle", "Service.java", 27),
+                new StackTraceElement("io.goodforgod.allocation.Controller", "request", "Controller.java", 64),
+                new StackTraceElement("java.lang.Thread", "run", "Thread.java", 829) });
+        return throwable;
+    }
+
+    /**
+     * Minimum of a few measurements is taken, as single measurement can include one time allocations of
+     * JIT recompilation or deoptimization that happened during it
+     *
+     * @param call to measure after warmup, so allocations of class loading and JIT are excluded
+     * @return bytes allocated by current thread for {@link #ITERATIONS} calls minus measurement overhead
+     */
+    private static long allocatedBytes(Runnable call) {
+        Assumptions.assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long overheadBefore = THREADS.getThreadAllocatedBytes(threadId);
+        final long overhead = THREADS.getThreadAllocatedBytes(threadId) - overheadBefore;
+
+        long minimum = Long.MAX_VALUE;
+        for (int measurement = 0; measurement < MEASUREMENTS; measurement++) {
+            final long before = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS; i++) {
+                call.run();
+            }
+            final long after = THREADS.getThreadAllocatedBytes(threadId);
+            minimum = Math.min(minimum, Math.max(0, after - before - overhead));
+        }
+
+        return minimum;
+    }
+}
@@ -0,0 +1,105 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import io.goodforgod.slf4j.simplelogger.SimpleLoggerProperties.OutputFormat;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+
+class BinaryFormatTests extends Assertions {
+
+    private final PrintStream original = System.out;
+    private final Throwable throwable = new IllegalStateException("failed", new IllegalArgumentException("cause"));
+
+    @AfterEach
+    public void after() {
+        System.setOut(original);
+        SimpleLoggerTests.clearProperties();
+        SimpleLogger.init();
+    }
+
+    @Test
+    void decodedIntoTextSameAsLogged() throws IOException {
+        final byte[] binary = log(OutputFormat.BINARY);
+        final String text = new String(log(OutputFormat.TEXT), StandardCharsets.UTF_8);
+        assertTrue(text.contains("Message with 42 and 4.2"), text);
+
+        assertEquals(text, decode(binary, OutputFormat.TEXT));
+    }
+
+    @Test
+    void decodedIntoJsonSameAsLogged() throws IOException {
+        final byte[] binary = log(OutputFormat.BINARY);
+        final String json = new String(log(OutputFormat.JSON), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"stacktrace\""), json);
+
+        assertEquals(json, decode(binary, OutputFormat.JSON));
+    }
+
+    @Test
+    void stringsWrittenOnceIntoDictionary() {
+        final byte[] binary = log(OutputFormat.BINARY);
+        final String content = new String(binary, StandardCharsets.ISO_8859_1);
+        final String template = "Message with {} and {}";
+        assertEquals(content.indexOf(template), content.lastIndexOf(template));
+        assertFalse(content.contains("Message with 42"));
+    }
+
+    @Test
+    void appendedOutputDecodedWithItsOwnDictionary() throws IOException {
+        final byte[] first = log(OutputFormat.BINARY);
+        final byte[] second = log(OutputFormat.BINARY);
+        final byte[] appended = new byte[first.length + second.length];
+        System.arraycopy(first, 0, appended, 0, first.length);
+        System.arraycopy(second, 0, appended, first.length, second.length);
+
+        final String text = new String(log(OutputFormat.TEXT), StandardCharsets.UTF_8);
+        assertEquals(text + text, decode(appended, OutputFormat.TEXT));
+    }
+
+    @Test
+    void notBinaryInputRejected() {
+        final byte[] text = log(OutputFormat.TEXT);
+        assertThrows(IOException.class, () -> decode(text, OutputFormat.TEXT));
+    }
+
+    private byte[] log(OutputFormat format) {
+        System.setProperty(SimpleLoggerProperties.FORMAT, format.name());
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_THREAD_NAME, "true");
+        System.setProperty(SimpleLoggerProperties.SHOW_MARKERS, "true");
+        SimpleLogger.init();
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            final SimpleLogger logger = new SimpleLogger("io.goodforgod.binary.Service");
+            final Marker marker = new SimpleMarker("AUDIT");
+            marker.add(new SimpleMarker("SECURITY"));
+
+            logger.info("Message without arguments");
+            logger.info("Message with {} and {}", 42L, 4.2);
+            logger.info("Message with {} and {}", 42L, 4.2);
+            logger.warn("Message with {} {} {}", "first", null, Map.of("key", 1));
+            logger.info(marker, "Message with marker {}", "value");
+            logger.atInfo().addKeyValue("user", "bob").addKeyValue("attempt", 3).log("Message with key values");
+            logger.error("Message with throwable", throwable);
+            logger.info("Not ASCII \u0441\u043e\u043e\u0431\u0449\u0435\u043d\u0438\u0435 {}", "\u00e9t\u00e9 \ud83d\ude00");
+            return output.toByteArray();
+        } finally {
+            System.setOut(original);
+        }
+    }
+
+    private static String decode(byte[] binary, OutputFormat format) throws IOException {
+        final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        BinaryLogDecoder.decode(new ByteArrayInputStream(binary), decoded, format);
+        return decoded.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,130 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cold start is checked in fresh JVM, as only first logger creation and first event pay for
+ * configuration, class loading and layouts, classes loaded by child JVM are collected with
+ * {@code -Xlog:class+load}, time to first line is measured by {@code ColdStartBenchmark}
+ */
+class ColdStartTests extends Assertions {
+
+    /**
+     * Budget has about 25% headroom over measured logger classes loaded for first JSON line, which loads
+     * more of them than TEXT does
+     */
+    private static final int LOGGER_CLASSES_BUDGET = 80;
+
+    /**
+     * Logs first line in fresh JVM
+     */
+    public static final class FirstLine {
+
+        public static void main(String[] args) {
+            LoggerFactory.getLogger(FirstLine.class).info("First line");
+        }
+    }
+
+    private static final class ColdStart {
+
+        private final String output;
+        private final List<String> loadedClasses;
+
+        private ColdStart(String output, List<String> loadedClasses) {
+            this.output = output;
+            this.loadedClasses = loadedClasses;
+        }
+
+        private boolean isLoaded(Class<?> type) {
+            return loadedClasses.contains(type.getName());
+        }
+
+        private long loggerClasses() {
+            return loadedClasses.stream()
+                    .filter(loadedClass -> loadedClass.startsWith(SimpleLogger.class.getPackageName() + "."))
+                    .count();
+        }
+    }
+
+    @Test
+    void textFormatDoesNotLoadJsonLayouts() throws Exception {
+        final ColdStart coldStart = coldStart("TEXT");
+
+        assertTrue(coldStart.output.contains("First line"), coldStart.output);
+        assertFalse(coldStart.isLoaded(JsonLoggerLayouts.class));
+        assertFalse(coldStart.isLoaded(JsonLoggerLayouts.MessageLayout.class));
+        assertTrue(coldStart.isLoaded(SimpleLoggerLayouts.MessageLayout.class));
+        assertNoConfigurationLambdas(coldStart);
+        assertLoggerClassesFitBudget(coldStart);
+    }
+
+    @Test
+    void jsonFormatDoesNotLoadTextOnlyLayouts() throws Exception {
+        final ColdStart coldStart = coldStart("JSON");
+
+        assertTrue(coldStart.output.contains("\"message\":\"First line\""), coldStart.output);
+        assertTrue(coldStart.isLoaded(JsonLoggerLayouts.MessageLayout.class));
+        assertFalse(coldStart.isLoaded(SimpleLoggerLayouts.MessageLayout.class));
+        assertFalse(coldStart.isLoaded(SimpleLoggerLayouts.SeparatorLayout.class));
+        assertNoConfigurationLambdas(coldStart);
+        assertLoggerClassesFitBudget(coldStart);
+    }
+
+    private static void assertLoggerClassesFitBudget(ColdStart coldStart) {
+        final long loggerClasses = coldStart.loggerClasses();
+        assertTrue(loggerClasses <= LOGGER_CLASSES_BUDGET, "First line loaded " + loggerClasses + " logger classes of "
+                + coldStart.loadedClasses.size() + " classes, budget " + LOGGER_CLASSES_BUDGET);
+    }
+
+    private static void assertNoConfigurationLambdas(ColdStart coldStart) {
+        for (String loadedClass : coldStart.loadedClasses) {
+            assertFalse(loadedClass.startsWith(SimpleLoggerConfiguration.class.getName() + "$$Lambda"),
+                    "Configuration initialization should not spin lambdas: " + loadedClass);
+        }
+    }
+
+    private static ColdStart coldStart(String format) throws IOException, InterruptedException {
+        final Path classLog = Files.createTempFile("simple-logger-cold-start", ".log");
+        try {
+            final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+            final List<String> command = new ArrayList<>();
+            command.add(java);
+            command.add("-Xlog:class+load=info:file=" + classLog);
+            command.add("-D" + SimpleLoggerProperties.FORMAT + "=" + format);
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(FirstLine.class.getName());
+
+            final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+            assertEquals(0, process.exitValue(), output);
+
+            // line format is: [0.012s][info][class,load] java.lang.Object source: shared objects file
+            final List<String> loadedClasses = new ArrayList<>();
+            for (String line : Files.readAllLines(classLog, StandardCharsets.UTF_8)) {
+                final int nameStart = line.indexOf("] ", line.indexOf("[class,load"));
+                if (nameStart != -1) {
+                    final int nameEnd = line.indexOf(' ', nameStart + 2);
+                    loadedClasses.add((nameEnd == -1)
+                            ? line.substring(nameStart + 2)
+                            : line.substring(nameStart + 2, nameEnd));
+                }
+            }
+
+            return new ColdStart(output, loadedClasses);
+        } finally {
+            Files.deleteIfExists(classLog);
+        }
+    }
+}
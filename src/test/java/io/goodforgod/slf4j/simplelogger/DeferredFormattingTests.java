@@ -0,0 +1,168 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DeferredFormattingTests extends Assertions {
+
+    private final PrintStream original = System.out;
+
+    @AfterEach
+    public void after() {
+        System.setOut(original);
+        SimpleLoggerTests.clearProperties();
+        SimpleLogger.init();
+    }
+
+    @Test
+    void deferredOutputSameAsFormattedByCaller() {
+        assertEquals(log("TEXT", false), log("TEXT", true));
+        assertEquals(log("JSON", false), log("JSON", true));
+    }
+
+    @Test
+    void mutableArgumentsCapturedWhenLogged() {
+        final String output = capture("TEXT", true, logger -> {
+            final StringBuilder builder = new StringBuilder("before");
+            final List<String> list = new ArrayList<>(List.of("before"));
+            final Map<String, Object> map = new HashMap<>(Map.of("state", "before"));
+            logger.atInfo().addKeyValue("map", map).log("Message with {} and {}", builder, list);
+            builder.setLength(0);
+            builder.append("after");
+            list.set(0, "after");
+            map.put("state", "after");
+        });
+
+        assertTrue(output.contains("Message with before and [before]"), output);
+        assertTrue(output.contains("map={state=before}"), output);
+        assertFalse(output.contains("after"), output);
+    }
+
+    @Test
+    void mutableElementsCapturedWhenLogged() {
+        for (String format : List.of("TEXT", "JSON")) {
+            final String output = capture(format, true, logger -> {
+                final StringBuilder element = new StringBuilder("before");
+                final List<StringBuilder> list = List.of(element);
+                final Map<String, StringBuilder> map = Map.of("state", element);
+                logger.atInfo().addKeyValue("map", map).log("Message with {}", list);
+                element.setLength(0);
+                element.append("after");
+            });
+
+            assertTrue(output.contains("before"), output);
+            assertFalse(output.contains("after"), output);
+            assertEquals(log(format, false, map -> map.put("state", new StringBuilder("before"))),
+                    log(format, true, map -> map.put("state", new StringBuilder("before"))));
+        }
+    }
+
+    @Test
+    void threadNameIsOfCaller() {
+        final String output = capture("TEXT", true, logger -> logger.info("Message"));
+        assertTrue(output.contains("[" + Thread.currentThread().getName() + "]"), output);
+        assertFalse(output.contains("simple-logger-deferred-writer"), output);
+    }
+
+    @Test
+    void eventsWrittenInOrderAfterFlush() {
+        final String output = capture("TEXT", true, logger -> {
+            for (int i = 0; i < 10_000; i++) {
+                logger.info("Message {}", i);
+            }
+        });
+
+        final String[] lines = output.split(System.lineSeparator());
+        assertEquals(10_000, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(lines[i].endsWith("Message " + i), lines[i]);
+        }
+    }
+
+    @Test
+    void eventsNotLostWhenClosedWhileLogging() {
+        final String output = capture("TEXT", true, logger -> {
+            final DeferredEventQueue queue = SimpleLogger.CONFIG.getDeferredEventQueue();
+            final List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        logger.info("Message {}", i);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            queue.close();
+            for (Thread thread : threads) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+
+        assertEquals(8_000, output.split(System.lineSeparator()).length);
+    }
+
+    private String log(String format, boolean deferred) {
+        return capture(format, deferred, logger -> {
+            logger.info("Message without arguments");
+            logger.info("Message with {} and {}", 42L, 4.2);
+            logger.warn("Message with {} {} {}", "first", null, new int[] { 1, 2 });
+            logger.atInfo().addKeyValue("user", "bob").addKeyValue("values", List.of(1, 2)).log("Message with key values");
+            logger.atInfo().addKeyValue("failing", new FailingToString()).log("Message with failing key value");
+            logger.error("Message with throwable", new IllegalStateException("failed"));
+        });
+    }
+
+    private String log(String format, boolean deferred, Consumer<Map<String, Object>> filler) {
+        return capture(format, deferred, logger -> {
+            final Map<String, Object> map = new HashMap<>();
+            filler.accept(map);
+            logger.atInfo().addKeyValue("map", map).addKeyValue("list", List.of(map)).log("Message with {}", map);
+        });
+    }
+
+    private String capture(String format, boolean deferred, Consumer<SimpleLogger> logging) {
+        System.setProperty(SimpleLoggerProperties.FORMAT, format);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_THREAD_NAME, "true");
+        System.setProperty(SimpleLoggerProperties.DEFERRED_FORMATTING, String.valueOf(deferred));
+        System.setProperty(SimpleLoggerProperties.DEFERRED_FORMATTING_QUEUE_SIZE, "16");
+        SimpleLogger.init();
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            logging.accept(new SimpleLogger("io.goodforgod.deferred.Service"));
+            final DeferredEventQueue queue = SimpleLogger.CONFIG.getDeferredEventQueue();
+            assertEquals(deferred, queue != null);
+            if (queue != null) {
+                queue.flush();
+            }
+            return output.toString(StandardCharsets.UTF_8);
+        } finally {
+            System.setOut(original);
+        }
+    }
+
+    private static final class FailingToString {
+
+        @Override
+        public String toString() {
+            throw new IllegalStateException("toString failed");
+        }
+    }
+}
@@ -2,6 +2,7 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -169,9 +170,30 @@ void testMarker() {
     @Test
     void testMDC() {
         MDC.put("k", "v");
-        assertNull(MDC.get("k"));
+        assertEquals("v", MDC.get("k"));
         MDC.remove("k");
         assertNull(MDC.get("k"));
         MDC.clear();
     }
+
+    @Test
+    void testMDCContextSnapshot() {
+        MDC.put("k1", "v1");
+        MDC.put("k2", "v2");
+        final SimpleMDCAdapter.Context snapshot = SimpleMDCAdapter.getContext();
+
+        MDC.put("k1", "changed");
+        MDC.remove("k2");
+        assertEquals(Map.of("k1", "changed"), MDC.getCopyOfContextMap());
+        assertEquals(2, snapshot.size());
+        assertEquals("v1", snapshot.get("k1"));
+        assertEquals("v2", snapshot.get("k2"));
+
+        MDC.setContextMap(Map.of("k3", "v3"));
+        assertNull(MDC.get("k1"));
+        assertEquals("v3", MDC.get("k3"));
+
+        MDC.clear();
+        assertNull(MDC.getCopyOfContextMap());
+    }
 }
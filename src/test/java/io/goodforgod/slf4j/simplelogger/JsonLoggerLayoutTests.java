@@ -2,6 +2,7 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.List;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -50,6 +51,8 @@ public static void clearProperties() {
         System.clearProperty(SimpleLoggerProperties.ENVIRONMENT_REMEMBER_ON_START);
         System.clearProperty(SimpleLoggerProperties.ENVIRONMENTS);
         System.clearProperty(SimpleLoggerProperties.FORMAT);
+        System.clearProperty(SimpleLoggerProperties.JSON_FIELDS);
+        System.clearProperty(SimpleLoggerProperties.PREFIX_JSON_FIELD + "message");
         SimpleLogger.CONFIG.refresh();
     }
 
@@ -323,4 +326,175 @@ void throwableOutput() throws JSONException {
         assertEquals("io.goodforgod.slf4j.simplelogger.JsonLoggerLayoutTests", stacktrace.getJSONObject(0).getString("clazz"));
         assertTrue(stacktrace.getJSONObject(0).getString("method").startsWith("throwableOutput"));
     }
+
+    @Test
+    void throwableMessageEscapedInStacktrace() throws JSONException {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_MARKERS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        simpleLogger.error("hello", new IllegalStateException("Value \"quoted\"\nand\\slash"));
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        final JSONObject o = (JSONObject) JSONParser.parseJSON(res);
+        assertEquals("Value \"quoted\"\nand\\slash", o.getString("exception"));
+        assertEquals("Value \"quoted\"\nand\\slash", o.getJSONArray("stacktrace").getJSONObject(0).getString("message"));
+    }
+
+    @Test
+    void messageWithArgumentsEscaped() throws JSONException {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_MARKERS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        simpleLogger.info("Value \"{}\" and {}", "quoted \"value\"", "line\nbreak\\");
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        final JSONObject o = (JSONObject) JSONParser.parseJSON(res);
+        assertEquals("Value \"quoted \"value\"\" and line\nbreak\\", o.getString("message"));
+    }
+
+    @Test
+    void fluentKeyValuesAsFields() throws JSONException {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_MARKERS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        simpleLogger.atInfo()
+                .addKeyValue("user", "bob \"the\" builder")
+                .addKeyValue("attempt", 3)
+                .addKeyValue("tags", List.of("a", "b"))
+                .setCause(new IllegalStateException("Ops"))
+                .log("Login {}", "failed");
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        final JSONObject o = (JSONObject) JSONParser.parseJSON(res);
+        assertEquals("Login failed", o.getString("message"));
+        assertEquals("bob \"the\" builder", o.getString("user"));
+        assertEquals(3, o.getInt("attempt"));
+        assertEquals("b", o.getJSONArray("tags").getString(1));
+        assertEquals("Ops", o.getString("exception"));
+    }
+
+    @Test
+    void keyValueFailingToStringRendered() throws JSONException {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_MARKERS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        final Object failing = new Object() {
+
+            @Override
+            public String toString() {
+                throw new IllegalStateException("toString failed");
+            }
+        };
+        simpleLogger.atInfo()
+                .addKeyValue("failing", failing)
+                .addKeyValue("attempt", 3)
+                .log("Login failed");
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        final JSONObject o = (JSONObject) JSONParser.parseJSON(res);
+        assertEquals("[FAILED toString()]", o.getString("failing"));
+        assertEquals(3, o.getInt("attempt"));
+    }
+
+    @Test
+    void mdcContextAsObject() throws JSONException {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_MARKERS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        final SimpleMDCAdapter adapter = new SimpleMDCAdapter();
+        try {
+            adapter.put("requestId", "42");
+            adapter.put("quote", "\"");
+            simpleLogger.info("hello");
+        } finally {
+            adapter.clear();
+        }
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        final JSONObject o = (JSONObject) JSONParser.parseJSON(res);
+        assertEquals("42", o.getJSONObject("mdc").getString("requestId"));
+        assertEquals("\"", o.getJSONObject("mdc").getString("quote"));
+        assertEquals("hello", o.getString("message"));
+    }
+
+    @Test
+    void jsonFieldsPresetRenamesFields() throws JSONException {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.JSON_FIELDS, "ecs");
+        System.setProperty(SimpleLoggerProperties.SHOW_THREAD_NAME, "true");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+        simpleLogger.error("hello", new IllegalStateException("Ops"));
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        final JSONObject o = (JSONObject) JSONParser.parseJSON(res);
+        assertTrue(o.has("@timestamp"), res);
+        assertEquals("ERROR", o.getString("log.level"));
+        assertEquals("io.goodforgod.slf4j.simplelogger.JsonLoggerLayoutTests", o.getString("log.logger"));
+        assertFalse(o.getString("process.thread.name").isEmpty());
+        assertEquals("hello", o.getString("message"));
+        assertEquals("Ops", o.getString("error.message"));
+        assertTrue(o.getJSONArray("error.stack_trace").length() > 0);
+        assertFalse(o.has("level"), res);
+    }
+
+    @Test
+    void jsonFieldOverridesPresetAndIsEscaped() throws JSONException {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.JSON_FIELDS, "GRAYLOG");
+        System.setProperty(SimpleLoggerProperties.PREFIX_JSON_FIELD + "message", "short \"message\"");
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+        simpleLogger.info("hello");
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        assertEquals("{\"level\":\"INFO\",\"_logger\":\"io.goodforgod.slf4j.simplelogger.JsonLoggerLayoutTests\","
+                + "\"short \\\"message\\\"\":\"hello\"}", res);
+    }
+
+    @Test
+    void jsonFieldsInvalidPresetUsesDefaultNames() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.JSON_FIELDS, "unknown");
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+        simpleLogger.info("hello");
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        assertEquals("{\"level\":\"INFO\",\"logger\":\"io.goodforgod.slf4j.simplelogger.JsonLoggerLayoutTests\",\"message\":\"hello\"}",
+                res);
+    }
 }
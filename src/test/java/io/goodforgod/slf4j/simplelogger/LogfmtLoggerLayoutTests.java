@@ -0,0 +1,133 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+
+class LogfmtLoggerLayoutTests extends Assertions {
+
+    PrintStream original = System.out;
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    PrintStream replacement = new PrintStream(bout);
+
+    @BeforeEach
+    public void before() {
+        SimpleLoggerTests.clearProperties();
+        System.setProperty(SimpleLoggerProperties.FORMAT, SimpleLoggerProperties.OutputFormat.LOGFMT.name());
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+    }
+
+    @AfterEach
+    public void after() {
+        SimpleLoggerTests.clearProperties();
+        System.setOut(original);
+        SimpleLogger.init();
+    }
+
+    private String[] logged() {
+        replacement.flush();
+        return bout.toString().split(System.lineSeparator());
+    }
+
+    @Test
+    void valuesNotQuotedWhenNotRequired() {
+        System.setOut(replacement);
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.logfmt.Service");
+        logger.info("started");
+
+        assertEquals("level=INFO logger=io.goodforgod.logfmt.Service msg=started", logged()[0]);
+    }
+
+    @Test
+    void shortLoggerNameShown() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_SHORT_LOG_NAME, "true");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.logfmt.Service");
+        logger.info("started");
+
+        assertEquals("level=INFO logger=Service msg=started", logged()[0]);
+    }
+
+    @Test
+    void valuesQuotedAndEscapedWhenRequired() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_THREAD_NAME, "true");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.logfmt.Service");
+        final String threadName = Thread.currentThread().getName();
+        Thread.currentThread().setName("worker thread");
+        try {
+            logger.info("Message with \"quote\" and {}", "a=b\nc\\d");
+            logger.info("");
+        } finally {
+            Thread.currentThread().setName(threadName);
+        }
+
+        final String[] lines = logged();
+        assertEquals(2, lines.length);
+        assertEquals("level=INFO thread=\"worker thread\" logger=io.goodforgod.logfmt.Service "
+                + "msg=\"Message with \\\"quote\\\" and a=b\\nc\\\\d\"", lines[0]);
+        assertEquals("level=INFO thread=\"worker thread\" logger=io.goodforgod.logfmt.Service msg=\"\"", lines[1]);
+    }
+
+    @Test
+    void keyValuesContextAndMarkersAsFields() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_MARKERS, "true");
+        System.setProperty(SimpleLoggerProperties.SHOW_LOG_NAME, "false");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.logfmt.Service");
+        final Marker marker = new SimpleMarker("AUDIT");
+        marker.add(new SimpleMarker("SECURITY"));
+
+        final SimpleMDCAdapter adapter = new SimpleMDCAdapter();
+        try {
+            adapter.put("requestId", "42");
+            logger.atWarn()
+                    .addMarker(marker)
+                    .addKeyValue("user", "bob smith")
+                    .addKeyValue("attempt", 3)
+                    .addKeyValue("bad key", true)
+                    .log("Login failed");
+        } finally {
+            adapter.clear();
+        }
+
+        assertEquals("level=WARN markers=AUDIT,SECURITY requestId=42 msg=\"Login failed\" user=\"bob smith\" attempt=3 bad_key=true",
+                logged()[0]);
+    }
+
+    @Test
+    void throwableInSingleLine() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_LOG_NAME, "false");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.logfmt.Service");
+        logger.error("Failed", new IllegalStateException("broken state", new IllegalArgumentException("cause")));
+
+        final String[] lines = logged();
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].startsWith("level=ERROR msg=Failed exception=\"broken state\" "
+                + "stacktrace=\"java.lang.IllegalStateException: broken state\\n\\tat "), lines[0]);
+        assertTrue(lines[0].contains("\\nCaused by: java.lang.IllegalArgumentException: cause\\n"), lines[0]);
+        assertTrue(lines[0].endsWith("more\""), lines[0]);
+    }
+
+    @Test
+    void dateTimeFieldFirst() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "true");
+        System.setProperty(SimpleLoggerProperties.DATE_TIME_OUTPUT_TYPE, "UNIX_TIME");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.logfmt.Service");
+        logger.info("started");
+
+        assertTrue(logged()[0].matches("time=\\d+ level=INFO logger=io.goodforgod.logfmt.Service msg=started"));
+    }
+}
@@ -0,0 +1,77 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+class LoggerLevelTreeTests extends Assertions {
+
+    @Test
+    void nearestAncestorLevelFound() {
+        final LoggerLevelTree tree = new LoggerLevelTree();
+        tree.put("io.goodforgod", Level.WARN.toInt());
+        tree.put("io.goodforgod.slf4j.simplelogger", Level.DEBUG.toInt());
+
+        assertEquals(Level.WARN.toInt(), tree.find("io.goodforgod"));
+        assertEquals(Level.WARN.toInt(), tree.find("io.goodforgod.slf4j"));
+        assertEquals(Level.DEBUG.toInt(), tree.find("io.goodforgod.slf4j.simplelogger"));
+        assertEquals(Level.DEBUG.toInt(), tree.find("io.goodforgod.slf4j.simplelogger.SimpleLogger"));
+        assertEquals(LoggerLevelTree.LEVEL_UNDEFINED, tree.find("io"));
+        assertEquals(LoggerLevelTree.LEVEL_UNDEFINED, tree.find("io.goodforgodx"));
+        assertEquals(LoggerLevelTree.LEVEL_UNDEFINED, tree.find("org.slf4j"));
+    }
+
+    @Test
+    void levelUpdated() {
+        final LoggerLevelTree tree = new LoggerLevelTree();
+        tree.put("a.b", Level.WARN.toInt());
+        tree.put("a.b", Level.ERROR.toInt());
+        assertEquals(Level.ERROR.toInt(), tree.find("a.b.c"));
+    }
+
+    @Test
+    void emptySegmentsMatchedAsPrefixes() {
+        final LoggerLevelTree tree = new LoggerLevelTree();
+        tree.put("", Level.WARN.toInt());
+        tree.put("a.", Level.ERROR.toInt());
+
+        assertEquals(Level.WARN.toInt(), tree.find(""));
+        assertEquals(Level.WARN.toInt(), tree.find(".a"));
+        assertEquals(LoggerLevelTree.LEVEL_UNDEFINED, tree.find("a"));
+        assertEquals(Level.ERROR.toInt(), tree.find("a."));
+        assertEquals(Level.ERROR.toInt(), tree.find("a..b"));
+    }
+
+    @Test
+    void wideNodeChildrenFound() {
+        final LoggerLevelTree tree = new LoggerLevelTree();
+        for (int i = 0; i < 10_000; i++) {
+            tree.put("com.acme.Service" + i, i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, tree.find("com.acme.Service" + i + ".Inner"));
+        }
+        assertEquals(LoggerLevelTree.LEVEL_UNDEFINED, tree.find("com.acme.Service10000"));
+        assertEquals(LoggerLevelTree.LEVEL_UNDEFINED, tree.find("com.acme"));
+    }
+
+    @Test
+    void registeredLoggersOfSubtreeVisited() {
+        SimpleLogger.init();
+        final LoggerLevelTree tree = new LoggerLevelTree();
+        for (int i = 0; i < 100; i++) {
+            tree.register(new SimpleLogger("com.acme.Service" + i));
+            tree.register(new SimpleLogger("com.acme.Service" + i + ".Inner"));
+        }
+        tree.register(new SimpleLogger("com.other.Service"));
+
+        final int[] count = new int[1];
+        tree.forEachLogger("com.acme", logger -> count[0]++);
+        assertEquals(200, count[0]);
+
+        count[0] = 0;
+        tree.forEachLogger("com.acme.Service42", logger -> count[0]++);
+        assertEquals(2, count[0]);
+    }
+}
@@ -4,7 +4,6 @@
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.slf4j.helpers.FormattingTuple;
 
 /**
  * @author Anton Kurako (GoodforGod)
@@ -18,144 +17,164 @@ class MessageFormatterTests extends Assertions {
     private static final Integer[] a0 = new Integer[] { i1, i2, i3 };
     private static final Integer[] a1 = new Integer[] { 10, 20, 30 };
 
+    private static String format(String messagePattern, Object arg) {
+        final StringBuilder builder = new StringBuilder();
+        MessageFormatter.format(builder, messagePattern, arg, ObjectRenderers.TEXT);
+        return builder.toString();
+    }
+
+    private static String format(String messagePattern, Object arg1, Object arg2) {
+        final StringBuilder builder = new StringBuilder();
+        MessageFormatter.format(builder, messagePattern, arg1, arg2, ObjectRenderers.TEXT);
+        return builder.toString();
+    }
+
+    private static String formatArray(String messagePattern, Object[] argArray) {
+        return formatArray(messagePattern, argArray, (argArray == null) ? 0 : argArray.length);
+    }
+
+    private static String formatArray(String messagePattern, Object[] argArray, int argCount) {
+        final StringBuilder builder = new StringBuilder();
+        MessageFormatter.formatArray(builder, messagePattern, argArray, argCount, ObjectRenderers.TEXT);
+        return builder.toString();
+    }
+
     @Test
-    void nullMessageResultNull() {
-        String result = MessageFormatter.format(null, i1).getMessage();
-        assertNull(result);
+    void nullMessageAppendedAsNull() {
+        String result = format(null, i1);
+        assertEquals("null", result);
 
-        result = MessageFormatter.format(null, i1, i2).getMessage();
-        assertNull(result);
+        result = format(null, i1, i2);
+        assertEquals("null", result);
 
-        result = MessageFormatter.formatArray(null, a0).getMessage();
-        assertNull(result);
+        result = formatArray(null, a0);
+        assertEquals("null", result);
     }
 
     @Test
     void messageEqualFormatterCauseNoPlaceholders() {
         final String msg = "no placeholder";
-        String result = MessageFormatter.format(msg, i1).getMessage();
+        String result = format(msg, i1);
         assertEquals(msg, result);
 
-        result = MessageFormatter.format(msg, i1, i2).getMessage();
+        result = format(msg, i1, i2);
         assertEquals(msg, result);
 
-        result = MessageFormatter.formatArray(msg, a0).getMessage();
+        result = formatArray(msg, a0);
         assertEquals(msg, result);
     }
 
     @Test
     void messageSupplierAppended() {
         Supplier<String> supplier = () -> "argument";
-        String result = MessageFormatter.format("Value supplier is {}.", supplier).getMessage();
+        String result = format("Value supplier is {}.", supplier);
         assertEquals("Value supplier is argument.", result);
     }
 
     @Test
     void messageCallableAppended() {
         Callable<String> supplier = () -> "argument";
-        String result = MessageFormatter.format("Value supplier is {}.", supplier).getMessage();
+        String result = format("Value supplier is {}.", supplier);
         assertEquals("Value supplier is argument.", result);
     }
 
     @Test
     void parameterContainingAnAnchor() {
-        String result = MessageFormatter.format("Value is {}.", "[{}]").getMessage();
+        String result = format("Value is {}.", "[{}]");
         assertEquals("Value is [{}].", result);
 
-        result = MessageFormatter.format("Values are {} and {}.", i1, "[{}]").getMessage();
+        result = format("Values are {} and {}.", i1, "[{}]");
         assertEquals("Values are 1 and [{}].", result);
     }
 
     @Test
     void nullParametersShouldBeHandledWithoutBarfing() {
-        String result = MessageFormatter.format("Value is {}.", null).getMessage();
+        String result = format("Value is {}.", null);
         assertEquals("Value is null.", result);
 
-        result = MessageFormatter.format("Val1 is {}, val2 is {}.", null, null).getMessage();
+        result = format("Val1 is {}, val2 is {}.", null, null);
         assertEquals("Val1 is null, val2 is null.", result);
 
-        result = MessageFormatter.format("Val1 is {}, val2 is {}.", i1, null).getMessage();
+        result = format("Val1 is {}, val2 is {}.", i1, null);
         assertEquals("Val1 is 1, val2 is null.", result);
 
-        result = MessageFormatter.format("Val1 is {}, val2 is {}.", null, i2).getMessage();
+        result = format("Val1 is {}, val2 is {}.", null, i2);
         assertEquals("Val1 is null, val2 is 2.", result);
 
-        result = MessageFormatter.formatArray("Val1 is {}, val2 is {}, val3 is {}", new Integer[] { null, null, null })
-                .getMessage();
+        result = formatArray("Val1 is {}, val2 is {}, val3 is {}", new Integer[] { null, null, null });
         assertEquals("Val1 is null, val2 is null, val3 is null", result);
 
-        result = MessageFormatter.formatArray("Val1 is {}, val2 is {}, val3 is {}", new Integer[] { null, i2, i3 }).getMessage();
+        result = formatArray("Val1 is {}, val2 is {}, val3 is {}", new Integer[] { null, i2, i3 });
         assertEquals("Val1 is null, val2 is 2, val3 is 3", result);
 
-        result = MessageFormatter.formatArray("Val1 is {}, val2 is {}, val3 is {}", new Integer[] { null, null, i3 })
-                .getMessage();
+        result = formatArray("Val1 is {}, val2 is {}, val3 is {}", new Integer[] { null, null, i3 });
         assertEquals("Val1 is null, val2 is null, val3 is 3", result);
     }
 
     @Test
     void verifyOneParameterIsHandledCorrectly() {
-        String result = MessageFormatter.format("Value is {}.", i3).getMessage();
+        String result = format("Value is {}.", i3);
         assertEquals("Value is 3.", result);
 
-        result = MessageFormatter.format("Value is {", i3).getMessage();
+        result = format("Value is {", i3);
         assertEquals("Value is {", result);
 
-        result = MessageFormatter.format("{} is larger than 2.", i3).getMessage();
+        result = format("{} is larger than 2.", i3);
         assertEquals("3 is larger than 2.", result);
 
-        result = MessageFormatter.format("No subst", i3).getMessage();
+        result = format("No subst", i3);
         assertEquals("No subst", result);
 
-        result = MessageFormatter.format("Incorrect {subst", i3).getMessage();
+        result = format("Incorrect {subst", i3);
         assertEquals("Incorrect {subst", result);
 
-        result = MessageFormatter.format("Value is {bla} {}", i3).getMessage();
+        result = format("Value is {bla} {}", i3);
         assertEquals("Value is {bla} 3", result);
 
-        result = MessageFormatter.format("Escaped \\{} subst", i3).getMessage();
+        result = format("Escaped \\{} subst", i3);
         assertEquals("Escaped {} subst", result);
 
-        result = MessageFormatter.format("{Escaped", i3).getMessage();
+        result = format("{Escaped", i3);
         assertEquals("{Escaped", result);
 
-        result = MessageFormatter.format("\\{}Escaped", i3).getMessage();
+        result = format("\\{}Escaped", i3);
         assertEquals("{}Escaped", result);
 
-        result = MessageFormatter.format("File name is {{}}.", "App folder.zip").getMessage();
+        result = format("File name is {{}}.", "App folder.zip");
         assertEquals("File name is {App folder.zip}.", result);
 
         // escaping the escape character
-        result = MessageFormatter.format("File name is C:\\\\{}.", "App folder.zip").getMessage();
+        result = format("File name is C:\\\\{}.", "App folder.zip");
         assertEquals("File name is C:\\App folder.zip.", result);
     }
 
     @Test
     void testTwoParameters() {
-        String result = MessageFormatter.format("Value {} is smaller than {}.", i1, i2).getMessage();
+        String result = format("Value {} is smaller than {}.", i1, i2);
         assertEquals("Value 1 is smaller than 2.", result);
 
-        result = MessageFormatter.format("Value {} is smaller than {}", i1, i2).getMessage();
+        result = format("Value {} is smaller than {}", i1, i2);
         assertEquals("Value 1 is smaller than 2", result);
 
-        result = MessageFormatter.format("{}{}", i1, i2).getMessage();
+        result = format("{}{}", i1, i2);
         assertEquals("12", result);
 
-        result = MessageFormatter.format("Val1={}, Val2={", i1, i2).getMessage();
+        result = format("Val1={}, Val2={", i1, i2);
         assertEquals("Val1=1, Val2={", result);
 
-        result = MessageFormatter.format("Value {} is smaller than \\{}", i1, i2).getMessage();
+        result = format("Value {} is smaller than \\{}", i1, i2);
         assertEquals("Value 1 is smaller than {}", result);
 
-        result = MessageFormatter.format("Value {} is smaller than \\{} tail", i1, i2).getMessage();
+        result = format("Value {} is smaller than \\{} tail", i1, i2);
         assertEquals("Value 1 is smaller than {} tail", result);
 
-        result = MessageFormatter.format("Value {} is smaller than \\{", i1, i2).getMessage();
+        result = format("Value {} is smaller than \\{", i1, i2);
         assertEquals("Value 1 is smaller than \\{", result);
 
-        result = MessageFormatter.format("Value {} is smaller than {tail", i1, i2).getMessage();
+        result = format("Value {} is smaller than {tail", i1, i2);
         assertEquals("Value 1 is smaller than {tail", result);
 
-        result = MessageFormatter.format("Value \\{} is smaller than {}", i1, i2).getMessage();
+        result = format("Value \\{} is smaller than {}", i1, i2);
         assertEquals("Value {} is smaller than 1", result);
     }
 
@@ -169,7 +188,7 @@ public String toString() {
             }
         };
 
-        String result = MessageFormatter.format("Troublesome object {}", o).getMessage();
+        String result = format("Troublesome object {}", o);
         assertEquals("Troublesome object [FAILED toString()]", result);
     }
 
@@ -182,41 +201,41 @@ void testNullArray() {
 
         Object[] args = null;
 
-        String result = MessageFormatter.formatArray(msg0, args).getMessage();
+        String result = formatArray(msg0, args);
         assertEquals(msg0, result);
 
-        result = MessageFormatter.formatArray(msg1, args).getMessage();
+        result = formatArray(msg1, args);
         assertEquals(msg1, result);
 
-        result = MessageFormatter.formatArray(msg2, args).getMessage();
+        result = formatArray(msg2, args);
         assertEquals(msg2, result);
 
-        result = MessageFormatter.formatArray(msg3, args).getMessage();
+        result = formatArray(msg3, args);
         assertEquals(msg3, result);
     }
 
     // tests the case when the parameters are supplied in a single array
     @Test
     void testArrayFormat() {
-        String result = MessageFormatter.formatArray("Value {} is smaller than {} and {}.", a0).getMessage();
+        String result = formatArray("Value {} is smaller than {} and {}.", a0);
         assertEquals("Value 1 is smaller than 2 and 3.", result);
 
-        result = MessageFormatter.formatArray("{}{}{}", a0).getMessage();
+        result = formatArray("{}{}{}", a0);
         assertEquals("123", result);
 
-        result = MessageFormatter.formatArray("Value {} is smaller than {}.", a0).getMessage();
+        result = formatArray("Value {} is smaller than {}.", a0);
         assertEquals("Value 1 is smaller than 2.", result);
 
-        result = MessageFormatter.formatArray("Value {} is smaller than {}", a0).getMessage();
+        result = formatArray("Value {} is smaller than {}", a0);
         assertEquals("Value 1 is smaller than 2", result);
 
-        result = MessageFormatter.formatArray("Val={}, {, Val={}", a0).getMessage();
+        result = formatArray("Val={}, {, Val={}", a0);
         assertEquals("Val=1, {, Val=2", result);
 
-        result = MessageFormatter.formatArray("Val={}, {, Val={}", a0).getMessage();
+        result = formatArray("Val={}, {, Val={}", a0);
         assertEquals("Val=1, {, Val=2", result);
 
-        result = MessageFormatter.formatArray("Val1={}, Val2={", a0).getMessage();
+        result = formatArray("Val1={}, Val2={", a0);
         assertEquals("Val1=1, Val2={", result);
     }
 
@@ -225,66 +244,66 @@ void testArrayValues() {
         Integer p0 = i1;
         Integer[] p1 = new Integer[] { i2, i3 };
 
-        String result = MessageFormatter.format("{}{}", p0, p1).getMessage();
+        String result = format("{}{}", p0, p1);
         assertEquals("1[2, 3]", result);
 
         // Integer[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", p1 }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", p1 });
         assertEquals("a[2, 3]", result);
 
         // byte[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", new byte[] { 1, 2 } }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", new byte[] { 1, 2 } });
         assertEquals("a[1, 2]", result);
 
         // int[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", new int[] { 1, 2 } }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", new int[] { 1, 2 } });
         assertEquals("a[1, 2]", result);
 
         // float[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", new float[] { 1, 2 } }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", new float[] { 1, 2 } });
         assertEquals("a[1.0, 2.0]", result);
 
         // double[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", new double[] { 1, 2 } }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", new double[] { 1, 2 } });
         assertEquals("a[1.0, 2.0]", result);
 
         // long[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", new long[] { 1L, 2L } }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", new long[] { 1L, 2L } });
         assertEquals("a[1, 2]", result);
 
         // char[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", new char[] { 'a', 'b' } }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", new char[] { 'a', 'b' } });
         assertEquals("a[a, b]", result);
 
         // short[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", new short[] { 1, 2 } }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", new short[] { 1, 2 } });
         assertEquals("a[1, 2]", result);
 
         // boolean[]
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", new boolean[] { true, false } }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", new boolean[] { true, false } });
         assertEquals("a[true, false]", result);
     }
 
     @Test
     void testMultiDimensionalArrayValues() {
         Integer[][] multiIntegerA = new Integer[][] { a0, a1 };
-        String result = MessageFormatter.formatArray("{}{}", new Object[] { "a", multiIntegerA }).getMessage();
+        String result = formatArray("{}{}", new Object[] { "a", multiIntegerA });
         assertEquals("a[[1, 2, 3], [10, 20, 30]]", result);
 
         int[][] multiIntA = new int[][] { { 1, 2 }, { 10, 20 } };
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", multiIntA }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", multiIntA });
         assertEquals("a[[1, 2], [10, 20]]", result);
 
         float[][] multiFloatA = new float[][] { { 1, 2 }, { 10, 20 } };
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", multiFloatA }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", multiFloatA });
         assertEquals("a[[1.0, 2.0], [10.0, 20.0]]", result);
 
         Object[][] multiOA = new Object[][] { a0, a1 };
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", multiOA }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", multiOA });
         assertEquals("a[[1, 2, 3], [10, 20, 30]]", result);
 
         Object[][][] _3DOA = new Object[][][] { multiOA, multiOA };
-        result = MessageFormatter.formatArray("{}{}", new Object[] { "a", _3DOA }).getMessage();
+        result = formatArray("{}{}", new Object[] { "a", _3DOA });
         assertEquals("a[[[1, 2, 3], [10, 20, 30]], [[1, 2, 3], [10, 20, 30]]]", result);
     }
 
@@ -292,71 +311,101 @@ void testMultiDimensionalArrayValues() {
     void testCyclicArrays() {
         Object[] cyclicA = new Object[1];
         cyclicA[0] = cyclicA;
-        assertEquals("[[...]]", MessageFormatter.formatArray("{}", cyclicA).getMessage());
+        assertEquals("[[...]]", formatArray("{}", cyclicA));
 
         Object[] a = new Object[2];
         a[0] = i1;
         Object[] c = new Object[] { i3, a };
         Object[] b = new Object[] { i2, c };
         a[1] = b;
-        assertEquals("1[2, [3, [1, [...]]]]", MessageFormatter.formatArray("{}{}", a).getMessage());
+        assertEquals("1[2, [3, [1, [...]]]]", formatArray("{}{}", a));
     }
 
     @Test
     void testArrayThrowable() {
-        FormattingTuple ft;
         Throwable t = new Throwable();
         Object[] ia = new Object[] { i1, i2, i3, t };
-        Object[] iaWitness = new Object[] { i1, i2, i3 };
-
-        ft = MessageFormatter.formatArray("Value {} is smaller than {} and {}.", ia);
-        assertEquals("Value 1 is smaller than 2 and 3.", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("{}{}{}", ia);
-        assertEquals("123", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("Value {} is smaller than {}.", ia);
-        assertEquals("Value 1 is smaller than 2.", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("Value {} is smaller than {}", ia);
-        assertEquals("Value 1 is smaller than 2", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("Val={}, {, Val={}", ia);
-        assertEquals("Val=1, {, Val=2", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("Val={}, \\{, Val={}", ia);
-        assertEquals("Val=1, \\{, Val=2", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("Val1={}, Val2={", ia);
-        assertEquals("Val1=1, Val2={", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("Value {} is smaller than {} and {}.", ia);
-        assertEquals("Value 1 is smaller than 2 and 3.", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("{}{}{}{}", ia);
-        assertEquals("123{}", ft.getMessage());
-        assertArrayEquals(iaWitness, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
-
-        ft = MessageFormatter.formatArray("1={}", new Object[] { i1 }, t);
-        assertEquals("1=1", ft.getMessage());
-        assertArrayEquals(new Object[] { i1 }, ft.getArgArray());
-        assertEquals(t, ft.getThrowable());
+
+        assertEquals(t, MessageFormatter.getThrowableCandidate(ia));
+        assertNull(MessageFormatter.getThrowableCandidate(a0));
+
+        assertEquals("Value 1 is smaller than 2 and 3.", formatArray("Value {} is smaller than {} and {}.", ia, 3));
+        assertEquals("123", formatArray("{}{}{}", ia, 3));
+        assertEquals("Value 1 is smaller than 2.", formatArray("Value {} is smaller than {}.", ia, 3));
+        assertEquals("Value 1 is smaller than 2", formatArray("Value {} is smaller than {}", ia, 3));
+        assertEquals("Val=1, {, Val=2", formatArray("Val={}, {, Val={}", ia, 3));
+        assertEquals("Val=1, \\{, Val=2", formatArray("Val={}, \\{, Val={}", ia, 3));
+        assertEquals("Val1=1, Val2={", formatArray("Val1={}, Val2={", ia, 3));
+        assertEquals("123{}", formatArray("{}{}{}{}", ia, 3));
+        assertEquals("1=1", formatArray("1={}", new Object[] { i1 }, 1));
+    }
+
+    @Test
+    void templateCachedByPatternIdentity() {
+        final String pattern = "Value {} is smaller than {}";
+        MessageFormatter.getTemplate(pattern);
+        final MessageFormatter.Template template = MessageFormatter.getTemplate(pattern);
+        assertNotNull(template);
+        assertSame(template, MessageFormatter.getTemplate(pattern));
+        assertEquals(2, template.placeholders());
+
+        final String patternCopy = new String(pattern);
+        assertNotSame(template, MessageFormatter.getTemplate(patternCopy));
+        assertEquals("Value 1 is smaller than 2", format(patternCopy, i1, i2));
+    }
+
+    @Test
+    void templateMissFormattedByDirectScan() {
+        final String[] patterns = {
+                "no placeholder",
+                "Value {} is smaller than {}",
+                "{}{}{}{}",
+                "Val1={}, Val2={",
+                "Val={}, \\{, Val={}",
+                "Escaped \\{} and {}",
+                "Double escaped \\\\{} and \\{}",
+                "Escaped tail {} \\{} and {}"
+        };
+
+        for (String pattern : patterns) {
+            final MessageFormatter.Template template = cachedTemplate(pattern);
+            assertEquals(format(pattern, i1), format(missingPattern(pattern), i1), pattern);
+            assertEquals(format(pattern, i1, i2), format(missingPattern(pattern), i1, i2), pattern);
+            for (int count = 1; count <= a0.length; count++) {
+                assertEquals(formatArray(pattern, a0, count), formatArray(missingPattern(pattern), a0, count), pattern);
+            }
+            assertSame(template, MessageFormatter.getTemplate(pattern));
+        }
+    }
+
+    private static MessageFormatter.Template cachedTemplate(String pattern) {
+        MessageFormatter.getTemplate(pattern);
+        return MessageFormatter.getTemplate(pattern);
+    }
+
+    /**
+     * @return copy of cached pattern that misses its taken slot, so it is formatted by direct scan
+     */
+    private static String missingPattern(String pattern) {
+        final int slot = System.identityHashCode(pattern) & (MessageFormatter.TEMPLATE_CACHE_SIZE - 1);
+        while (true) {
+            final String copy = new String(pattern);
+            if ((System.identityHashCode(copy) & (MessageFormatter.TEMPLATE_CACHE_SIZE - 1)) == slot) {
+                return copy;
+            }
+        }
+    }
+
+    @Test
+    void placeholdersFilledFromLeftToRight() {
+        String result = format("Val1 is {}, val2 is {}.", i1);
+        assertEquals("Val1 is 1, val2 is {}.", result);
+
+        result = format("Val1 is {}, val2 is {}, val3 is {}.", i1, i2);
+        assertEquals("Val1 is 1, val2 is 2, val3 is {}.", result);
+
+        result = format("Val1 is {}, \\{} is not escaped when args are exhausted", i1);
+        assertEquals("Val1 is 1, \\{} is not escaped when args are exhausted", result);
     }
 }
+
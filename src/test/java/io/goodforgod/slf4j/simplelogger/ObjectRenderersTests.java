@@ -0,0 +1,189 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONParser;
+
+class ObjectRenderersTests extends Assertions {
+
+    static final class Point {
+
+        private final int x;
+        private final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public String toString() {
+            throw new UnsupportedOperationException("Renderer expected");
+        }
+    }
+
+    static final class PointRenderer implements ObjectRenderer<Point> {
+
+        @Override
+        public Class<Point> type() {
+            return Point.class;
+        }
+
+        @Override
+        public void render(Point value, StringBuilder builder) {
+            builder.append('(').append(value.x).append(", ").append(value.y).append(')');
+        }
+    }
+
+    private static String render(ObjectRenderers renderers, Object value) {
+        final StringBuilder builder = new StringBuilder();
+        renderers.render(builder, value);
+        return builder.toString();
+    }
+
+    @Test
+    void builtInRenderedSameAsToString() {
+        final List<Object> values = List.of(UUID.randomUUID(), new UUID(0, 0), new UUID(-1, -1),
+                Instant.now(), Instant.ofEpochSecond(-100_000_000_000L, 1), Instant.EPOCH,
+                Duration.ZERO, Duration.ofMillis(1500), Duration.ofSeconds(-1, 1), Duration.ofMillis(-500),
+                Duration.ofHours(26).plusMinutes(3), Duration.ofNanos(-1), Duration.ofSeconds(Long.MIN_VALUE),
+                42, 42L, 0.5, true, new StringBuilder("builder"),
+                List.of(1, "two"), Map.of("key", Duration.ofMinutes(1)));
+
+        for (Object value : values) {
+            assertEquals(value.toString(), render(ObjectRenderers.TEXT, value));
+        }
+    }
+
+    @Test
+    void selfReferenceCollectionRendered() {
+        final List<Object> list = new ArrayList<>();
+        list.add(list);
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("self", map);
+
+        assertEquals(list.toString(), render(ObjectRenderers.TEXT, list));
+        assertEquals(map.toString(), render(ObjectRenderers.TEXT, map));
+    }
+
+    static final class Segments extends ArrayList<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String toString() {
+            return String.join("/", this);
+        }
+    }
+
+    @Test
+    void collectionWithOwnToStringRenderedWithIt() throws JSONException {
+        final Segments path = new Segments();
+        path.add("usr");
+        path.add("bin");
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("path", path);
+
+        assertEquals("usr/bin", render(ObjectRenderers.TEXT, path));
+        assertEquals("{path=usr/bin}", render(ObjectRenderers.TEXT, map));
+
+        final StringBuilder builder = new StringBuilder();
+        ObjectRenderers.JSON.renderJsonValue(builder, map);
+        final JSONObject json = (JSONObject) JSONParser.parseJSON(builder.toString());
+        assertEquals("usr/bin", json.getString("path"));
+    }
+
+    static final class Fraction extends Number {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int intValue() {
+            return 0;
+        }
+
+        @Override
+        public long longValue() {
+            return 0;
+        }
+
+        @Override
+        public float floatValue() {
+            return 0.5f;
+        }
+
+        @Override
+        public double doubleValue() {
+            return 0.5;
+        }
+
+        @Override
+        public String toString() {
+            return "1/2";
+        }
+    }
+
+    @Test
+    void onlyJdkNumbersRenderedAsJsonNumbers() throws JSONException {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("decimal", new BigDecimal("1.25"));
+        map.put("integer", BigInteger.TEN);
+        map.put("counter", new AtomicLong(7));
+        map.put("fraction", new Fraction());
+
+        final String rendered = render(ObjectRenderers.JSON, map);
+        assertTrue(rendered.contains("\"decimal\":1.25"), rendered);
+        assertTrue(rendered.contains("\"counter\":7"), rendered);
+
+        final JSONObject json = (JSONObject) JSONParser.parseJSON(rendered);
+        assertEquals(10, json.getInt("integer"));
+        assertEquals("1/2", json.getString("fraction"));
+    }
+
+    @Test
+    void mapAndCollectionRenderedAsJson() throws JSONException {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("name", "a\"b");
+        map.put("count", 1);
+        map.put("ratio", Double.NaN);
+        map.put("nested", List.of(true, Map.of("k", 2)));
+        map.put(3, null);
+
+        final JSONObject json = (JSONObject) JSONParser.parseJSON(render(ObjectRenderers.JSON, map));
+        assertEquals("a\"b", json.getString("name"));
+        assertEquals(1, json.getInt("count"));
+        assertEquals("NaN", json.getString("ratio"));
+        assertTrue(json.isNull("3"));
+
+        final JSONArray nested = json.getJSONArray("nested");
+        assertTrue(nested.getBoolean(0));
+        assertEquals(2, nested.getJSONObject(1).getInt("k"));
+    }
+
+    @Test
+    void userRendererUsedBeforeToString() {
+        final ObjectRenderers renderers = new ObjectRenderers(false, List.of(new PointRenderer()));
+        assertEquals("(1, 2)", render(renderers, new Point(1, 2)));
+        assertEquals("[(1, 2)]", render(renderers, List.of(new Point(1, 2))));
+    }
+
+    @Test
+    void failedRendererReplacedWithFailureMessage() {
+        final StringBuilder builder = new StringBuilder();
+        MessageFormatter.format(builder, "Point {}", new Point(1, 2), ObjectRenderers.TEXT);
+        assertEquals("Point [FAILED toString()]", builder.toString());
+    }
+}
@@ -0,0 +1,140 @@
+package io.goodforgod.slf4j.simplelogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimitTests extends Assertions {
+
+    private static final String RATE_LIMIT_SERVICE = SimpleLoggerProperties.PREFIX_RATE_LIMIT + "io.goodforgod.limited";
+
+    PrintStream original = System.out;
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    PrintStream replacement = new PrintStream(bout);
+
+    @BeforeEach
+    public void before() {
+        SimpleLoggerTests.clearProperties();
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_THREAD_NAME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_LOG_NAME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_IMPLEMENTATION_VERSION, "false");
+    }
+
+    @AfterEach
+    public void after() throws InterruptedException {
+        // summaries are scheduled in order with same delay, so summaries of this test are logged before it
+        final CountDownLatch summaries = new CountDownLatch(1);
+        RateLimiter.scheduleSummary(summaries::countDown);
+        assertTrue(summaries.await(5, TimeUnit.SECONDS));
+
+        System.clearProperty(RATE_LIMIT_SERVICE);
+        SimpleLoggerTests.clearProperties();
+        System.setOut(original);
+        SimpleLogger.init();
+    }
+
+    private String[] logged() {
+        replacement.flush();
+        return Arrays.stream(bout.toString().split(System.lineSeparator()))
+                .filter(line -> !line.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    @Test
+    void eventsOverBurstSuppressed() {
+        System.setOut(replacement);
+        System.setProperty(RATE_LIMIT_SERVICE, "5");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.limited.Service");
+
+        for (int i = 0; i < 20; i++) {
+            logger.info("Event {}", i);
+        }
+        logger.atInfo().log("Fluent event");
+
+        final String[] lines = logged();
+        assertEquals(5, lines.length, String.join(System.lineSeparator(), lines));
+        assertEquals("[INFO] Event 0", lines[0]);
+        assertEquals("[INFO] Event 4", lines[4]);
+    }
+
+    @Test
+    void suppressedSummaryLoggedWhenEventAllowedAgain() throws InterruptedException {
+        System.setOut(replacement);
+        System.setProperty(RATE_LIMIT_SERVICE, "2");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.limited.Service");
+
+        for (int i = 0; i < 10; i++) {
+            logger.warn("Event {}", i);
+        }
+
+        Thread.sleep(1100);
+        logger.warn("Event after pause");
+
+        final String[] lines = logged();
+        assertEquals(4, lines.length, String.join(System.lineSeparator(), lines));
+        assertEquals("[WARN] Suppressed 8 events exceeding rate limit of 2 events per second", lines[2]);
+        assertEquals("[WARN] Event after pause", lines[3]);
+    }
+
+    @Test
+    void suppressedSummaryLoggedWhenLoggerQuiet() throws InterruptedException {
+        System.setOut(replacement);
+        System.setProperty(RATE_LIMIT_SERVICE, "2");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.limited.Service");
+
+        for (int i = 0; i < 10; i++) {
+            logger.info("Event {}", i);
+        }
+        logger.warn("Warning");
+
+        for (int i = 0; i < 150 && logged().length < 3; i++) {
+            Thread.sleep(20);
+        }
+
+        final String[] lines = logged();
+        assertEquals(3, lines.length, String.join(System.lineSeparator(), lines));
+        assertEquals("[WARN] Suppressed 9 events exceeding rate limit of 2 events per second", lines[2]);
+    }
+
+    @Test
+    void rateLimitAppliedToPackageDescendantsOnly() {
+        System.setOut(replacement);
+        System.setProperty(RATE_LIMIT_SERVICE, "1");
+        SimpleLogger.init();
+        final SimpleLogger limited = new SimpleLogger("io.goodforgod.limited.nested.Service");
+        final SimpleLogger unlimited = new SimpleLogger("io.goodforgod.unlimited.Service");
+
+        for (int i = 0; i < 3; i++) {
+            limited.info("Limited {}", i);
+            unlimited.info("Unlimited {}", i);
+        }
+
+        final String[] lines = logged();
+        assertEquals(4, lines.length, String.join(System.lineSeparator(), lines));
+        assertEquals(1, Arrays.stream(lines).filter(line -> line.contains("Limited")).count());
+    }
+
+    @Test
+    void invalidRateLimitIgnored() {
+        System.setOut(replacement);
+        System.setProperty(RATE_LIMIT_SERVICE, "many");
+        SimpleLogger.init();
+        final SimpleLogger logger = new SimpleLogger("io.goodforgod.limited.Service");
+
+        for (int i = 0; i < 3; i++) {
+            logger.info("Event {}", i);
+        }
+
+        assertEquals(3, logged().length);
+    }
+}
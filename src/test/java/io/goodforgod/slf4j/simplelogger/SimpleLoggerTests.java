@@ -2,10 +2,17 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import org.junit.jupiter.api.*;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
 
 class SimpleLoggerTests extends Assertions {
 
@@ -42,6 +49,13 @@ public static void clearProperties() {
         System.clearProperty(SimpleLoggerProperties.ENVIRONMENT_REMEMBER_ON_START);
         System.clearProperty(SimpleLoggerProperties.ENVIRONMENTS);
         System.clearProperty(SimpleLoggerProperties.FORMAT);
+        System.clearProperty(SimpleLoggerProperties.SHOW_MARKERS);
+        System.clearProperty(SimpleLoggerProperties.SHOW_LOG_NAME);
+        System.clearProperty(SimpleLoggerProperties.LEVEL_IN_BRACKETS);
+        System.clearProperty(SimpleLoggerProperties.SHOW_MDC);
+        System.clearProperty(SimpleLoggerProperties.DEFERRED_FORMATTING);
+        System.clearProperty(SimpleLoggerProperties.DEFERRED_FORMATTING_QUEUE_SIZE);
+        System.clearProperty(SimpleLoggerProperties.JSON_FIELDS);
         SimpleLogger.CONFIG.refresh();
     }
 
@@ -87,6 +101,293 @@ void offLevelNonExistEnvDefaultValue() {
         assertFalse(simpleLogger.isErrorEnabled());
     }
 
+    @Test
+    void levelInheritedFromNearestPackage() {
+        System.setProperty(A_KEY, "warn");
+        System.setProperty(A_KEY + ".b.c", "${A_KEY_LOG_LEVEL_NON_EXIST:debug}");
+        SimpleLogger.init();
+        assertEquals(Level.WARN.toInt(), new SimpleLogger("a.b").currentLogLevel);
+        assertEquals(Level.DEBUG.toInt(), new SimpleLogger("a.b.c.D").currentLogLevel);
+        assertEquals(Level.INFO.toInt(), new SimpleLogger("ab").currentLogLevel);
+
+        System.clearProperty(A_KEY + ".b.c");
+        SimpleLogger.CONFIG.refresh();
+        assertEquals(Level.WARN.toInt(), new SimpleLogger("a.b.c.D").currentLogLevel);
+    }
+
+    @Test
+    void loggerFactorySetLevelForSubtree() {
+        SimpleLogger.init();
+        final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+        final SimpleLogger payments = (SimpleLogger) factory.getLogger("com.acme.payments.Service");
+        final SimpleLogger orders = (SimpleLogger) factory.getLogger("com.acme.orders.Service");
+
+        factory.setLoggerLevel("com.acme.payments", Level.DEBUG);
+        assertEquals(Level.DEBUG.toInt(), payments.currentLogLevel);
+        assertEquals(Level.INFO.toInt(), orders.currentLogLevel);
+
+        final SimpleLogger created = (SimpleLogger) factory.getLogger("com.acme.payments.gateway.Client");
+        assertEquals(Level.DEBUG.toInt(), created.currentLogLevel);
+
+        factory.setLoggerLevel("com.acme", Level.ERROR);
+        assertEquals(Level.DEBUG.toInt(), payments.currentLogLevel);
+        assertEquals(Level.ERROR.toInt(), orders.currentLogLevel);
+
+        factory.resetLoggerLevel("com.acme.payments");
+        assertEquals(Level.ERROR.toInt(), payments.currentLogLevel);
+        assertEquals(Level.ERROR.toInt(), created.currentLogLevel);
+
+        factory.resetLoggerLevel("com.acme");
+        assertEquals(Level.INFO.toInt(), payments.currentLogLevel);
+        assertEquals(Level.INFO.toInt(), orders.currentLogLevel);
+    }
+
+    @Test
+    void loggerFactorySetLevelExpires() throws InterruptedException {
+        SimpleLogger.init();
+        final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+        final SimpleLogger expiring = (SimpleLogger) factory.getLogger("com.acme.expiring.Service");
+        final SimpleLogger replaced = (SimpleLogger) factory.getLogger("com.acme.replaced.Service");
+
+        factory.setLoggerLevel("com.acme.expiring", Level.DEBUG, Duration.ofMillis(50));
+        factory.setLoggerLevel("com.acme.replaced", Level.DEBUG, Duration.ofMillis(50));
+        factory.setLoggerLevel("com.acme.replaced", Level.TRACE);
+        assertEquals(Level.DEBUG.toInt(), expiring.currentLogLevel);
+
+        for (int i = 0; i < 100 && expiring.currentLogLevel != Level.INFO.toInt(); i++) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(Level.INFO.toInt(), expiring.currentLogLevel);
+        assertEquals(Level.TRACE.toInt(), replaced.currentLogLevel);
+    }
+
+    @Test
+    void loggerFactorySetLevelExpiresToPreviousOverride() throws InterruptedException {
+        SimpleLogger.init();
+        final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+        final SimpleLogger logger = (SimpleLogger) factory.getLogger("com.acme.restored.Service");
+
+        factory.setLoggerLevel("com.acme.restored", Level.WARN);
+        factory.setLoggerLevel("com.acme.restored", Level.DEBUG, Duration.ofMillis(50));
+        factory.setLoggerLevel("com.acme.restored", Level.TRACE, Duration.ofMillis(50));
+        assertEquals(Level.TRACE.toInt(), logger.currentLogLevel);
+
+        for (int i = 0; i < 100 && logger.currentLogLevel != Level.WARN.toInt(); i++) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(Level.WARN.toInt(), logger.currentLogLevel);
+    }
+
+    @Test
+    void loggerFactoryThreadLevel() {
+        SimpleLogger.init();
+        final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+        final SimpleLogger logger = (SimpleLogger) factory.getLogger("com.acme.thread.Service");
+        assertFalse(logger.isDebugEnabled());
+
+        final boolean[] otherThreadDebug = new boolean[1];
+        factory.withThreadLevel(Level.DEBUG, () -> {
+            assertTrue(logger.isDebugEnabled());
+            assertFalse(logger.isTraceEnabled());
+            factory.withThreadLevel(Level.TRACE, () -> assertTrue(logger.isTraceEnabled()));
+            assertFalse(logger.isTraceEnabled());
+
+            final Thread thread = new Thread(() -> otherThreadDebug[0] = logger.isDebugEnabled());
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertFalse(otherThreadDebug[0]);
+        assertFalse(logger.isDebugEnabled());
+        assertTrue(logger.isInfoEnabled());
+    }
+
+    @Test
+    void loggerFactoryReplacedExpirationCancelled() {
+        SimpleLogger.init();
+        final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+        factory.getLogger("com.acme.expiry.Service");
+
+        factory.setLoggerLevel("com.acme.expiry", Level.DEBUG, Duration.ofHours(1));
+        factory.setLoggerLevel("com.acme.expiry", Level.TRACE, Duration.ofHours(1));
+        assertEquals(1, factory.scheduledLevelExpirations());
+
+        factory.setLoggerLevel("com.acme.expiry", Level.WARN);
+        assertEquals(0, factory.scheduledLevelExpirations());
+
+        factory.setLoggerLevel("com.acme.expiry", Level.DEBUG, Duration.ofHours(1));
+        factory.resetLoggerLevel("com.acme.expiry");
+        assertEquals(0, factory.scheduledLevelExpirations());
+
+        factory.setLoggerLevel("com.acme.expiry", Level.DEBUG, Duration.ofHours(1));
+        factory.reset();
+        assertEquals(0, factory.scheduledLevelExpirations());
+    }
+
+    @Test
+    void loggerFactoryLevelGuardLoweredAndRefreshed() {
+        SimpleLogger.init();
+        final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+        final SimpleLogger logger = (SimpleLogger) factory.getLogger("com.acme.guard.Service");
+        factory.refresh();
+        assertFalse(logger.isTraceEnabled());
+
+        factory.setLoggerLevel("com.acme.guard", Level.TRACE);
+        assertTrue(LogLevelGuard.isEnabledAnywhere(Level.TRACE.toInt()));
+        assertTrue(logger.isTraceEnabled());
+
+        factory.resetLoggerLevel("com.acme.guard");
+        factory.refresh();
+        assertFalse(logger.isTraceEnabled());
+        assertFalse(logger.isDebugEnabled());
+        assertTrue(logger.isInfoEnabled());
+        assertTrue(LogLevelGuard.isEnabledAnywhere(Level.INFO.toInt()));
+    }
+
+    @Test
+    void loggerFactoryLevelGuardRaisedAfterThreadLevelEnds() {
+        SimpleLogger.init();
+        final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+        final SimpleLogger logger = (SimpleLogger) factory.getLogger("com.acme.guard.Thread");
+
+        factory.withThreadLevel(Level.TRACE, () -> {
+            assertTrue(logger.isTraceEnabled());
+            factory.refresh();
+            assertTrue(LogLevelGuard.isEnabledAnywhere(Level.TRACE.toInt()));
+        });
+
+        refreshCollected(factory);
+        assertFalse(LogLevelGuard.isEnabledAnywhere(Level.TRACE.toInt()));
+        assertFalse(LogLevelGuard.isEnabledAnywhere(Level.DEBUG.toInt()));
+        assertTrue(LogLevelGuard.isEnabledAnywhere(Level.INFO.toInt()));
+    }
+
+    @Test
+    void loggerFactoryLevelGuardKeepsLevelsOfOtherFactories() {
+        SimpleLogger.init();
+        final SimpleLoggerFactory first = new SimpleLoggerFactory();
+        final SimpleLoggerFactory second = new SimpleLoggerFactory();
+        final SimpleLogger debug = (SimpleLogger) first.getLogger("com.acme.guard.First");
+        second.getLogger("com.acme.guard.Second");
+
+        first.setLoggerLevel("com.acme.guard.First", Level.DEBUG);
+        second.refresh();
+        assertTrue(LogLevelGuard.isEnabledAnywhere(Level.DEBUG.toInt()));
+        assertTrue(debug.isDebugEnabled());
+
+        first.resetLoggerLevel("com.acme.guard.First");
+        refreshCollected(second);
+        assertFalse(LogLevelGuard.isEnabledAnywhere(Level.DEBUG.toInt()));
+    }
+
+    /**
+     * Loggers of other tests are forgotten by guard only when collected, so refresh is retried after GC
+     */
+    private static void refreshCollected(SimpleLoggerFactory factory) {
+        factory.refresh();
+        for (int i = 0; i < 20 && LogLevelGuard.isEnabledAnywhere(Level.DEBUG.toInt()); i++) {
+            System.gc();
+            factory.refresh();
+        }
+    }
+
+    @Test
+    void configurationRefreshPublishesNewSnapshot() {
+        SimpleLogger.init();
+        final SimpleLoggerConfiguration.Snapshot before = SimpleLogger.CONFIG.snapshot();
+        System.setProperty(SimpleLoggerProperties.SHOW_MDC, "false");
+        SimpleLogger.CONFIG.refresh();
+
+        final SimpleLoggerConfiguration.Snapshot after = SimpleLogger.CONFIG.snapshot();
+        assertNotSame(before, after);
+        assertTrue(before.isShowMDC());
+        assertFalse(after.isShowMDC());
+        assertNotEquals(before.getLayouts().size(), after.getLayouts().size());
+    }
+
+    @Test
+    void configurationFileReloadedOnChange() throws Exception {
+        final Path file = Files.createTempFile("simplelogger", ".properties");
+        Files.writeString(file, SimpleLoggerProperties.PREFIX_LOG + "com.acme.file=warn\n");
+        System.setProperty(SimpleLoggerProperties.CONFIGURATION_FILE, file.toString());
+        System.setProperty(SimpleLoggerProperties.CONFIGURATION_FILE_WATCH, "true");
+        try {
+            SimpleLogger.init();
+            final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+            final SimpleLogger changed = (SimpleLogger) factory.getLogger("com.acme.file.Service");
+            final SimpleLogger other = (SimpleLogger) factory.getLogger("com.acme.other.Service");
+            final SimpleLogger otherFactory = (SimpleLogger) new SimpleLoggerFactory().getLogger("com.acme.file.Other");
+            assertEquals(Level.WARN.toInt(), changed.currentLogLevel);
+
+            Files.writeString(file, SimpleLoggerProperties.PREFIX_LOG + "com.acme.file=debug\n");
+            SimpleLoggerFactory.reload();
+            assertEquals(Level.DEBUG.toInt(), changed.currentLogLevel);
+            assertEquals(Level.DEBUG.toInt(), otherFactory.currentLogLevel);
+            assertEquals(Level.INFO.toInt(), other.currentLogLevel);
+
+            Files.writeString(file, SimpleLoggerProperties.PREFIX_LOG + "com.acme.file=error\n");
+            for (int i = 0; i < 250
+                    && (changed.currentLogLevel != Level.ERROR.toInt() || otherFactory.currentLogLevel != Level.ERROR.toInt()); i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(Level.ERROR.toInt(), changed.currentLogLevel);
+            assertEquals(Level.ERROR.toInt(), otherFactory.currentLogLevel);
+        } finally {
+            System.clearProperty(SimpleLoggerProperties.CONFIGURATION_FILE);
+            System.clearProperty(SimpleLoggerProperties.CONFIGURATION_FILE_WATCH);
+            SimpleLogger.init();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void nativeImageConfigurationKeptWhenRuntimeNotOverridden() {
+        System.setProperty("org.graalvm.nativeimage.imagecode", "buildtime");
+        try {
+            SimpleLogger.init();
+            final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+            final SimpleLogger buildTimeLogger = (SimpleLogger) factory.getLogger("com.acme.image.Build");
+            final SimpleLoggerConfiguration.Snapshot buildTimeSnapshot = SimpleLogger.CONFIG.snapshot();
+            assertTrue(SimpleLogger.CONFIG.isInitializedAtImageBuild());
+
+            System.setProperty("org.graalvm.nativeimage.imagecode", "runtime");
+            factory.getLogger("com.acme.image.Runtime");
+            assertFalse(SimpleLogger.CONFIG.isInitializedAtImageBuild());
+            assertSame(buildTimeSnapshot, SimpleLogger.CONFIG.snapshot());
+            assertEquals(Level.INFO.toInt(), buildTimeLogger.currentLogLevel);
+        } finally {
+            System.clearProperty("org.graalvm.nativeimage.imagecode");
+            SimpleLogger.init();
+        }
+    }
+
+    @Test
+    void nativeImageConfigurationRefreshedWithRuntimeOverrides() {
+        System.setProperty("org.graalvm.nativeimage.imagecode", "buildtime");
+        try {
+            SimpleLogger.init();
+            final SimpleLoggerFactory factory = new SimpleLoggerFactory();
+            final SimpleLogger buildTimeLogger = (SimpleLogger) factory.getLogger("com.acme.image.Build");
+            assertEquals(Level.INFO.toInt(), buildTimeLogger.currentLogLevel);
+
+            System.setProperty("org.graalvm.nativeimage.imagecode", "runtime");
+            System.setProperty(SimpleLoggerProperties.PREFIX_LOG + "com.acme.image", "debug");
+            final SimpleLogger runtimeLogger = (SimpleLogger) factory.getLogger("com.acme.image.Runtime");
+            assertEquals(Level.DEBUG.toInt(), buildTimeLogger.currentLogLevel);
+            assertEquals(Level.DEBUG.toInt(), runtimeLogger.currentLogLevel);
+        } finally {
+            System.clearProperty("org.graalvm.nativeimage.imagecode");
+            System.clearProperty(SimpleLoggerProperties.PREFIX_LOG + "com.acme.image");
+            SimpleLogger.init();
+        }
+    }
+
     @Test
     void loggerNameWithNoDots_WithLevel() {
         SimpleLogger.init();
@@ -242,6 +543,36 @@ void markersShown() {
         assertEquals("[WARN] [markers=MY_MARKER,MY_INNER_MARKER] i.g.s.simplelogger.SimpleLoggerTests - hello", res);
     }
 
+    @Test
+    void markerFragmentRefreshedOnReferenceChange() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.SHOW_MARKERS, "true");
+        System.setProperty(SimpleLoggerProperties.SHOW_LOG_NAME, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        final Marker outer = MarkerFactory.getDetachedMarker("OUTER");
+        final Marker middle = MarkerFactory.getDetachedMarker("MIDDLE");
+        assertTrue(outer instanceof SimpleMarker);
+        outer.add(middle);
+
+        simpleLogger.warn(outer, "first");
+        simpleLogger.warn(outer, "cached");
+        middle.add(MarkerFactory.getDetachedMarker("INNER"));
+        simpleLogger.warn(outer, "nested added");
+        outer.remove(middle);
+        simpleLogger.warn(outer, "removed");
+        replacement.flush();
+
+        final String[] splitted = bout.toString().strip().split(System.lineSeparator());
+        assertEquals("[WARN] [markers=OUTER,MIDDLE] first", splitted[0]);
+        assertEquals("[WARN] [markers=OUTER,MIDDLE] cached", splitted[1]);
+        assertEquals("[WARN] [markers=OUTER,MIDDLE,INNER] nested added", splitted[2]);
+        assertEquals("[WARN] [markers=OUTER] removed", splitted[3]);
+    }
+
     @Test
     void checkUseOfCachedOutputStream() {
         System.setOut(replacement);
@@ -281,4 +612,154 @@ void throwableOutput() {
         assertEquals("java.lang.RuntimeException: Ops", splitted[1]);
         assertTrue(splitted[2].trim().startsWith("at io.goodforgod.slf4j.simplelogger.SimpleLoggerTests.throwableOutput"));
     }
+
+    @Test
+    void throwableOutputSameAsPrintStackTrace() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.LEVEL_IN_BRACKETS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        final IllegalStateException cause = new IllegalStateException("Cause");
+        final RuntimeException throwable = new RuntimeException("Ops", cause);
+        final IllegalArgumentException suppressed = new IllegalArgumentException("Suppressed");
+        suppressed.addSuppressed(new UnsupportedOperationException("Inner"));
+        throwable.addSuppressed(suppressed);
+        cause.initCause(new Exception("Circular", throwable));
+
+        simpleLogger.error("hello", throwable);
+        replacement.flush();
+
+        final StringWriter expected = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(expected));
+        assertEquals("ERROR io.goodforgod.slf4j.simplelogger.SimpleLoggerTests - hello" + System.lineSeparator() + expected,
+                bout.toString());
+    }
+
+    @Test
+    void formattedMessageWithThrowableCandidate() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.LEVEL_IN_BRACKETS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        simpleLogger.warn("Values {}, {} and {}", 1, 2, 3, new IllegalStateException("Ops"));
+        replacement.flush();
+        final String res = bout.toString().strip();
+
+        final String[] splitted = res.split(System.lineSeparator());
+        assertEquals("WARN io.goodforgod.slf4j.simplelogger.SimpleLoggerTests - Values 1, 2 and 3", splitted[0]);
+        assertEquals("java.lang.IllegalStateException: Ops", splitted[1]);
+    }
+
+    @Test
+    void primitiveArgumentsFormatted() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.LEVEL_IN_BRACKETS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        simpleLogger.info("Long {}", 42L);
+        simpleLogger.info("Double {}", 0.5);
+        simpleLogger.info("Int {} and long {}", 1, Long.MAX_VALUE);
+        simpleLogger.info("Long {} and double {}", -1L, 1.5);
+        simpleLogger.info("Object {} took {} ms", "request", 15);
+        simpleLogger.info("Double {} and object {}", 2.5, null);
+        simpleLogger.info("Escaped \\{} and {}", 7, 8);
+        simpleLogger.info("Only {}", 1, 2);
+        simpleLogger.info("None", 1.0);
+        simpleLogger.info("Char {} and float {}", 'a', 0.1f);
+        simpleLogger.info("Float {} and long {}", 0.1f, 2L);
+        simpleLogger.info("Char {}", 'b');
+        simpleLogger.debug("Disabled {}", 1L);
+        replacement.flush();
+
+        final String prefix = "INFO io.goodforgod.slf4j.simplelogger.SimpleLoggerTests - ";
+        final String[] splitted = bout.toString().strip().split(System.lineSeparator());
+        assertEquals(12, splitted.length);
+        assertEquals(prefix + "Long 42", splitted[0]);
+        assertEquals(prefix + "Double 0.5", splitted[1]);
+        assertEquals(prefix + "Int 1 and long 9223372036854775807", splitted[2]);
+        assertEquals(prefix + "Long -1 and double 1.5", splitted[3]);
+        assertEquals(prefix + "Object request took 15 ms", splitted[4]);
+        assertEquals(prefix + "Double 2.5 and object null", splitted[5]);
+        assertEquals(prefix + "Escaped {} and 7", splitted[6]);
+        assertEquals(prefix + "Only 1", splitted[7]);
+        assertEquals(prefix + "None", splitted[8]);
+        assertEquals(prefix + "Char a and float 0.1", splitted[9]);
+        assertEquals(prefix + "Float 0.1 and long 2", splitted[10]);
+        assertEquals(prefix + "Char b", splitted[11]);
+    }
+
+    @Test
+    void fluentKeyValuesRendered() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.LEVEL_IN_BRACKETS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        assertSame(NOPLoggingEventBuilder.singleton(), simpleLogger.atDebug());
+
+        simpleLogger.atInfo()
+                .addKeyValue("user", "bob")
+                .addKeyValue("attempt", () -> 3)
+                .addArgument(1)
+                .log("Login {} and {}", 2);
+        simpleLogger.atWarn().log("Plain", new IllegalStateException("Ops"));
+        replacement.flush();
+
+        final String prefix = "io.goodforgod.slf4j.simplelogger.SimpleLoggerTests - ";
+        final String[] splitted = bout.toString().strip().split(System.lineSeparator());
+        assertEquals("INFO " + prefix + "Login 1 and 2 user=bob attempt=3", splitted[0]);
+        assertEquals("WARN " + prefix + "Plain", splitted[1]);
+        assertEquals("java.lang.IllegalStateException: Ops", splitted[2]);
+    }
+
+    @Test
+    void fluentBuilderReusedAndNested() {
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        final LoggingEventBuilder first = simpleLogger.atInfo();
+        final LoggingEventBuilder nested = simpleLogger.atInfo();
+        assertNotSame(first, nested);
+
+        System.setOut(replacement);
+        nested.log("nested");
+        first.log("first");
+        assertSame(first, simpleLogger.atInfo());
+    }
+
+    @Test
+    void mdcContextRendered() {
+        System.setOut(replacement);
+        System.setProperty(SimpleLoggerProperties.SHOW_DATE_TIME, "false");
+        System.setProperty(SimpleLoggerProperties.LEVEL_IN_BRACKETS, "false");
+
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        final SimpleMDCAdapter adapter = new SimpleMDCAdapter();
+        try {
+            adapter.put("requestId", "42");
+            adapter.put("user", "bob");
+            simpleLogger.info("hello");
+        } finally {
+            adapter.clear();
+        }
+        simpleLogger.info("bye");
+        replacement.flush();
+
+        final String[] splitted = bout.toString().strip().split(System.lineSeparator());
+        assertEquals("INFO [requestId=42, user=bob] io.goodforgod.slf4j.simplelogger.SimpleLoggerTests - hello", splitted[0]);
+        assertEquals("INFO io.goodforgod.slf4j.simplelogger.SimpleLoggerTests - bye", splitted[1]);
+    }
 }
@@ -0,0 +1,214 @@
+package io.goodforgod.slf4j.simplelogger.multiThreadedExecution;
+
+import io.goodforgod.slf4j.simplelogger.SimpleLoggerFactory;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import org.slf4j.Logger;
+
+/**
+ * Standalone harness that logs from 1 to N threads into different sinks and reports throughput with
+ * per-call latency percentiles, which show tail latency under contention unlike microbenchmarks.
+ * <p>
+ * Run with: {@code ThroughputLatencyHarness [maxThreads] [iterationsPerThread] [sinks]}, like
+ * {@code ThroughputLatencyHarness 8 200000 NULL,FILE,PIPE}
+ */
+public final class ThroughputLatencyHarness {
+
+    public enum Sink {
+        /**
+         * Discards output, so only logger overhead is measured
+         */
+        NULL,
+        /**
+         * Writes into temporary file
+         */
+        FILE,
+        /**
+         * Writes into pipe drained by separate thread, like stdout piped into log collector
+         */
+        PIPE
+    }
+
+    public static final class Result {
+
+        private final Sink sink;
+        private final int threads;
+        private final long operations;
+        private final long elapsedNanos;
+        private final LatencyHistogram histogram;
+
+        private Result(Sink sink, int threads, long operations, long elapsedNanos, LatencyHistogram histogram) {
+            this.sink = sink;
+            this.threads = threads;
+            this.operations = operations;
+            this.elapsedNanos = elapsedNanos;
+            this.histogram = histogram;
+        }
+
+        public long operations() {
+            return operations;
+        }
+
+        public double throughput() {
+            return operations * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public LatencyHistogram histogram() {
+            return histogram;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-5s threads=%-3d ops/s=%-12.0f p50=%-8d p99=%-8d p99.9=%-9d max=%d (ns)",
+                    sink, threads, throughput(), histogram.percentile(50), histogram.percentile(99),
+                    histogram.percentile(99.9), histogram.max());
+        }
+    }
+
+    private ThroughputLatencyHarness() {}
+
+    public static void main(String[] args) throws Exception {
+        final int maxThreads = (args.length > 0)
+                ? Integer.parseInt(args[0])
+                : Runtime.getRuntime().availableProcessors();
+        final int iterations = (args.length > 1)
+                ? Integer.parseInt(args[1])
+                : 100_000;
+        final List<Sink> sinks = new ArrayList<>();
+        if (args.length > 2) {
+            for (String sink : args[2].split(",")) {
+                sinks.add(Sink.valueOf(sink.strip()));
+            }
+        } else {
+            sinks.addAll(List.of(Sink.values()));
+        }
+
+        final PrintStream report = System.out;
+        for (Sink sink : sinks) {
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                // warmup run is not reported
+                run(sink, threads, iterations / 10);
+                report.println(run(sink, threads, iterations));
+            }
+        }
+    }
+
+    /**
+     * Output is redirected to sink through {@link System#setOut(PrintStream)}, so logger should use
+     * default not cached System.out output
+     *
+     * @param sink       to log into
+     * @param threads    number of threads that log concurrently
+     * @param iterations number of log calls for each thread
+     * @return throughput and merged latency histogram of all threads
+     */
+    public static Result run(Sink sink, int threads, int iterations) throws Exception {
+        final Logger logger = new SimpleLoggerFactory().getLogger(ThroughputLatencyHarness.class.getName());
+        final PrintStream original = System.out;
+        final SinkStream sinkStream = SinkStream.open(sink);
+        System.setOut(sinkStream.stream);
+        try {
+            final CyclicBarrier barrier = new CyclicBarrier(threads + 1);
+            final LatencyHistogram[] histograms = new LatencyHistogram[threads];
+            final Thread[] workers = new Thread[threads];
+            for (int i = 0; i < threads; i++) {
+                final LatencyHistogram histogram = new LatencyHistogram();
+                histograms[i] = histogram;
+                workers[i] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+
+                    for (int j = 0; j < iterations; j++) {
+                        final long start = System.nanoTime();
+                        logger.info("Harness message {} with {} argument", j, "second");
+                        histogram.record(System.nanoTime() - start);
+                    }
+                }, "harness-" + i);
+                workers[i].start();
+            }
+
+            barrier.await();
+            final long started = System.nanoTime();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            final long elapsed = System.nanoTime() - started;
+
+            final LatencyHistogram merged = new LatencyHistogram();
+            for (LatencyHistogram histogram : histograms) {
+                merged.merge(histogram);
+            }
+
+            return new Result(sink, threads, (long) threads * iterations, elapsed, merged);
+        } finally {
+            System.setOut(original);
+            sinkStream.close();
+        }
+    }
+
+    private static final class SinkStream {
+
+        private final PrintStream stream;
+        private final File file;
+        private final Pipe pipe;
+        private final Thread drainer;
+
+        private SinkStream(PrintStream stream, File file, Pipe pipe, Thread drainer) {
+            this.stream = stream;
+            this.file = file;
+            this.pipe = pipe;
+            this.drainer = drainer;
+        }
+
+        private static SinkStream open(Sink sink) throws IOException {
+            switch (sink) {
+                case NULL:
+                    return new SinkStream(new PrintStream(OutputStream.nullOutputStream()), null, null, null);
+                case FILE:
+                    final File file = File.createTempFile("simple-logger-harness", ".log");
+                    return new SinkStream(new PrintStream(new FileOutputStream(file), true), file, null, null);
+                case PIPE:
+                    final Pipe pipe = Pipe.open();
+                    final Thread drainer = new Thread(() -> {
+                        final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+                        try {
+                            while (pipe.source().read(buffer) != -1) {
+                                buffer.clear();
+                            }
+                        } catch (IOException e) {
+                            // pipe closed
+                        }
+                    }, "harness-pipe-drainer");
+                    drainer.setDaemon(true);
+                    drainer.start();
+                    return new SinkStream(new PrintStream(Channels.newOutputStream(pipe.sink()), true), null, pipe, drainer);
+                default:
+                    throw new IllegalArgumentException("Unknown sink: " + sink);
+            }
+        }
+
+        private void close() throws IOException, InterruptedException {
+            stream.close();
+            if (pipe != null) {
+                pipe.sink().close();
+                drainer.join();
+                pipe.source().close();
+            }
+            if (file != null && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.goodforgod.slf4j.simplelogger.multiThreadedExecution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ThroughputLatencyHarnessTests extends Assertions {
+
+    @Test
+    void histogramPercentilesWithinBucketError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 100);
+        }
+
+        assertEquals(10_000, histogram.count());
+        assertEquals(1_000_000, histogram.max());
+        assertEquals(500_000.0, histogram.percentile(50), 500_000 / 16.0);
+        assertEquals(990_000.0, histogram.percentile(99), 990_000 / 16.0);
+        assertEquals(1_000_000, histogram.percentile(100));
+    }
+
+    @Test
+    void histogramBucketsAreContinuous() {
+        for (long value : new long[] { 0, 15, 16, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE }) {
+            final int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.upperBound(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.upperBound(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void harnessRunsForEachSink() throws Exception {
+        for (ThroughputLatencyHarness.Sink sink : ThroughputLatencyHarness.Sink.values()) {
+            final ThroughputLatencyHarness.Result result = ThroughputLatencyHarness.run(sink, 2, 1_000);
+            assertEquals(2_000, result.operations());
+            assertEquals(2_000, result.histogram().count());
+            assertTrue(result.throughput() > 0);
+            assertTrue(result.histogram().percentile(50) <= result.histogram().percentile(99.9));
+        }
+    }
+}